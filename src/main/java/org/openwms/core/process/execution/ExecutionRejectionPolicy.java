@@ -0,0 +1,63 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ExecutionRejectionPolicy defines what happens to an asynchronous program execution when the bounded executor is saturated.
+ *
+ * @author Heiko Scherrer
+ */
+public enum ExecutionRejectionPolicy {
+
+    /** The submitting thread executes the program itself and is thereby slowed down. */
+    CALLER_RUNS,
+    /** The execution is rejected immediately. */
+    FAIL_FAST,
+    /** The submitting thread waits for free queue capacity up to a timeout and the execution is rejected afterwards. */
+    BLOCK;
+
+    /**
+     * Create the {@link RejectedExecutionHandler} that implements this policy.
+     *
+     * @param blockTimeout How long to wait for free capacity, only used by {@link #BLOCK}
+     * @return The handler
+     */
+    public RejectedExecutionHandler toHandler(Duration blockTimeout) {
+        return switch (this) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case FAIL_FAST -> new ThreadPoolExecutor.AbortPolicy();
+            case BLOCK -> (runnable, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Executor has been shut down");
+                }
+                try {
+                    if (!executor.getQueue().offer(runnable, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        throw new RejectedExecutionException("No free capacity to execute the program within [%s]".formatted(blockTimeout));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for free capacity", e);
+                }
+            };
+        };
+    }
+}
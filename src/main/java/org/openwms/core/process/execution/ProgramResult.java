@@ -27,6 +27,14 @@ public class ProgramResult {
     private String targetLocation;
     private String locationGroupName;
     private String error;
+    private String processInstanceId;
+
+    public ProgramResult() {
+    }
+
+    public ProgramResult(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
 
     public String getBarcode() {
         return barcode;
@@ -47,4 +55,8 @@ public class ProgramResult {
     public String getError() {
         return error;
     }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
 }
@@ -15,14 +15,29 @@
  */
 package org.openwms.core.process.execution;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * A RuntimeConfiguration.
+ * <p>
+ * With {@literal owms.process.execution.virtual-threads.enabled=true} timer firings, {@code @Async} methods and asynchronous
+ * program executions run on virtual threads, whereas trigger calculation stays on a single scheduler thread.
  *
  * @author Heiko Scherrer
  */
@@ -30,8 +45,24 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Configuration
 public class RuntimeConfiguration {
 
+    /** Name of the bounded executor used for asynchronous program executions. */
+    public static final String PROGRAM_EXECUTOR_NAME = "programExecutionExecutor";
+
+    private final boolean virtualThreads;
+
+    public RuntimeConfiguration(@Value("${owms.process.execution.virtual-threads.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean
     public TaskScheduler taskScheduler() {
+        if (virtualThreads) {
+            var scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("ProcessExecution-");
+            scheduler.setTaskTerminationTimeout(30_000);
+            return scheduler;
+        }
         var scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(5);
         scheduler.setThreadNamePrefix("ProcessExecution-");
@@ -39,4 +70,29 @@ public class RuntimeConfiguration {
         scheduler.setRemoveOnCancelPolicy(true);
         return scheduler;
     }
+
+    /*
+     * Deliberately not a Spring TaskExecutor in order to not interfere with the resolution of the default @Async executor.
+     */
+    @Bean(name = PROGRAM_EXECUTOR_NAME, destroyMethod = "shutdown")
+    public ThreadPoolExecutor programExecutionExecutor(
+            @Value("${owms.process.execution.async.pool-size:10}") int poolSize,
+            @Value("${owms.process.execution.async.queue-capacity:500}") int queueCapacity,
+            @Value("${owms.process.execution.async.rejection-policy:CALLER_RUNS}") ExecutionRejectionPolicy rejectionPolicy,
+            @Value("${owms.process.execution.async.block-timeout:PT5S}") Duration blockTimeout,
+            @Value("${owms.process.execution.virtual-threads.concurrency-limit:256}") int virtualThreadConcurrencyLimit,
+            MeterRegistry meterRegistry) {
+        var threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("ProgramExecution-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("ProgramExecution-");
+        var concurrency = virtualThreads ? virtualThreadConcurrencyLimit : poolSize;
+        var executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                threadFactory, rejectionPolicy.toHandler(blockTimeout));
+        if (virtualThreads) {
+            // Virtual threads are cheap to create, so do not keep idle ones around
+            executor.allowCoreThreadTimeOut(true);
+        }
+        new ExecutorServiceMetrics(executor, PROGRAM_EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
 }
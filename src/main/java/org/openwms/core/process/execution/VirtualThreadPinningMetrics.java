@@ -0,0 +1,84 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * A VirtualThreadPinningMetrics records JFR {@literal jdk.VirtualThreadPinned} events as metrics, to make carrier threads visible
+ * that are blocked by virtual threads, e.g. within synchronized JDBC driver code.
+ *
+ * @author Heiko Scherrer
+ */
+@ConditionalOnProperty(name = "owms.process.execution.virtual-threads.enabled", havingValue = "true")
+@Component
+class VirtualThreadPinningMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMetrics.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private final Duration threshold;
+    private final Counter pinnedEvents;
+    private final Timer pinnedDuration;
+    private RecordingStream recordingStream;
+
+    VirtualThreadPinningMetrics(@Value("${owms.process.execution.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedEvents = Counter.builder("owms.process.execution.virtual-threads.pinned")
+                .description("Number of virtual threads pinned to their carrier thread longer than the threshold")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("owms.process.execution.virtual-threads.pinned.duration")
+                .description("Time virtual threads were pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, event -> {
+                pinnedEvents.increment();
+                pinnedDuration.record(event.getDuration());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Virtual thread pinned for [{}] at [{}]", event.getDuration(), event.getStackTrace());
+                }
+            });
+            recordingStream.startAsync();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Pinned virtual threads are not recorded, JFR is not available: [{}]", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
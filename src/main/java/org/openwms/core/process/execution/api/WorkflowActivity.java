@@ -0,0 +1,34 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.api;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotBlank;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A WorkflowActivity is an activity a process instance has visited, as part of a coalesced {@link WorkflowEvent}.
+ *
+ * @param activityId The ID of the activity within the process definition
+ * @param startedAt When the activity has been entered (nullable if the start is unknown)
+ * @param durationMillis How long the activity took in milliseconds (nullable if the activity has not been completed)
+ * @author Heiko Scherrer
+ */
+public record WorkflowActivity(@NotBlank String activityId, @Nullable Instant startedAt, @Nullable Long durationMillis)
+        implements Serializable {
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.api;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A WorkflowDefinitionSummary is the lightweight projection of the latest version of a {@link WorkflowDefinition}, without the BPMN.
+ *
+ * @param pKey The engine's ID of the process definition version
+ * @param id The key of the process definition
+ * @param name The name of the process definition
+ * @param version The version of the process definition
+ * @param deploymentTime When the version has been deployed
+ * @param contentHash The normalized SHA-256 hash of the BPMN resource, hex encoded, equal for versions with the same content
+ * @author Heiko Scherrer
+ */
+public record WorkflowDefinitionSummary(
+        @JsonProperty("pKey") String pKey,
+        @NotBlank @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("version") int version,
+        @JsonProperty("deploymentTime") Instant deploymentTime,
+        @JsonProperty("contentHash") String contentHash) implements Serializable {
+}
@@ -19,6 +19,8 @@ import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotBlank;
 
 import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -40,6 +42,21 @@ public class WorkflowEvent implements Serializable {
     /** The ID of the process definition this event is associated with (nullable). */
     @Nullable
     private String processInstanceId;
+    /** The key of the process definition this event is associated with (nullable). */
+    @Nullable
+    private String processDefinitionKey;
+    /** The business key of the process instance this event is associated with (nullable). */
+    @Nullable
+    private String businessKey;
+    /** The ID of the activity this event is associated with (nullable). */
+    @Nullable
+    private String activityId;
+    /** When the event occurred in the engine (nullable). */
+    @Nullable
+    private Instant occurredAt;
+    /** The activities visited since the previous snapshot, only set on coalesced snapshot events (nullable). */
+    @Nullable
+    private List<WorkflowActivity> activities;
 
     public WorkflowEvent() {
     }
@@ -51,6 +68,13 @@ public class WorkflowEvent implements Serializable {
         this.processInstanceId = processInstanceId;
     }
 
+    public WorkflowEvent(String eventType, String executionId, String processDefinitionId, String processInstanceId,
+            String processDefinitionKey, String businessKey) {
+        this(eventType, executionId, processDefinitionId, processInstanceId);
+        this.processDefinitionKey = processDefinitionKey;
+        this.businessKey = businessKey;
+    }
+
     public String getEventType() {
         return eventType;
     }
@@ -83,16 +107,56 @@ public class WorkflowEvent implements Serializable {
         this.processInstanceId = processInstanceId;
     }
 
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public void setProcessDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+    }
+
+    public String getBusinessKey() {
+        return businessKey;
+    }
+
+    public void setBusinessKey(String businessKey) {
+        this.businessKey = businessKey;
+    }
+
+    public String getActivityId() {
+        return activityId;
+    }
+
+    public void setActivityId(String activityId) {
+        this.activityId = activityId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public List<WorkflowActivity> getActivities() {
+        return activities;
+    }
+
+    public void setActivities(List<WorkflowActivity> activities) {
+        this.activities = activities;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         WorkflowEvent that = (WorkflowEvent) o;
-        return Objects.equals(eventType, that.eventType) && Objects.equals(executionId, that.executionId) && Objects.equals(processDefinitionId, that.processDefinitionId) && Objects.equals(processInstanceId, that.processInstanceId);
+        return Objects.equals(eventType, that.eventType) && Objects.equals(executionId, that.executionId) && Objects.equals(processDefinitionId, that.processDefinitionId) && Objects.equals(processInstanceId, that.processInstanceId) && Objects.equals(processDefinitionKey, that.processDefinitionKey) && Objects.equals(businessKey, that.businessKey) && Objects.equals(activityId, that.activityId) && Objects.equals(occurredAt, that.occurredAt) && Objects.equals(activities, that.activities);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(eventType, executionId, processDefinitionId, processInstanceId);
+        return Objects.hash(eventType, executionId, processDefinitionId, processInstanceId, processDefinitionKey, businessKey, activityId, occurredAt, activities);
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.api;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A WorkflowEventCodec encodes {@link WorkflowEvent}s into a compact binary format and back. After a leading version byte each
+ * field follows in declaration order as a varint length prefix and the UTF-8 bytes of the value. The length prefix is shifted by
+ * one so that {@code 0} stands for {@literal null}; timestamps are epoch milliseconds and counts are encoded the same way. Fields
+ * appended in later revisions are optional, so that shorter payloads still decode. Decoding does not use reflection.
+ *
+ * @author Heiko Scherrer
+ */
+public final class WorkflowEventCodec {
+
+    /** The content type of binary encoded WorkflowEvents. */
+    public static final String CONTENT_TYPE = "application/vnd.openwms.workflow-event.v1+binary";
+    private static final byte VERSION = 1;
+
+    private WorkflowEventCodec() {
+    }
+
+    /**
+     * Encode the event.
+     *
+     * @param event The event to encode
+     * @return The encoded bytes
+     */
+    public static byte[] encode(@NotNull WorkflowEvent event) {
+        var out = new ByteArrayOutputStream(128);
+        out.write(VERSION);
+        writeString(out, event.getEventType());
+        writeString(out, event.getExecutionId());
+        writeString(out, event.getProcessDefinitionId());
+        writeString(out, event.getProcessInstanceId());
+        writeString(out, event.getProcessDefinitionKey());
+        writeString(out, event.getBusinessKey());
+        writeString(out, event.getActivityId());
+        writeInstant(out, event.getOccurredAt());
+        var activities = event.getActivities();
+        if (activities == null) {
+            out.write(0);
+        } else {
+            writeVarint(out, activities.size() + 1L);
+            for (var activity : activities) {
+                writeString(out, activity.activityId());
+                writeInstant(out, activity.startedAt());
+                writeVarint(out, activity.durationMillis() == null ? 0 : activity.durationMillis() + 1);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode an event from the given bytes.
+     *
+     * @param bytes The encoded bytes
+     * @return The decoded event
+     * @throws IllegalArgumentException if the bytes are not a valid encoded WorkflowEvent
+     */
+    public static WorkflowEvent decode(@NotNull byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported WorkflowEvent encoding version");
+        }
+        var reader = new Reader(bytes);
+        var event = new WorkflowEvent(reader.readString(), reader.readString(), reader.readString(), reader.readString(),
+                reader.readString(), reader.readString());
+        if (reader.hasRemaining()) {
+            event.setActivityId(reader.readString());
+            event.setOccurredAt(reader.readInstant());
+            var count = reader.readVarint();
+            if (count < 0 || count > bytes.length) {
+                throw new IllegalArgumentException("Malformed count in WorkflowEvent encoding");
+            }
+            if (count > 0) {
+                var activities = new ArrayList<WorkflowActivity>((int) count - 1);
+                for (var i = 1; i < count; i++) {
+                    var activityId = reader.readString();
+                    var startedAt = reader.readInstant();
+                    var duration = reader.readVarint();
+                    activities.add(new WorkflowActivity(activityId, startedAt, duration == 0 ? null : duration - 1));
+                }
+                event.setActivities(List.copyOf(activities));
+            }
+        }
+        return event;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeInstant(ByteArrayOutputStream out, Instant value) {
+        writeVarint(out, value == null ? 0 : value.toEpochMilli() + 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position = 1;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean hasRemaining() {
+            return position < bytes.length;
+        }
+
+        private Instant readInstant() {
+            var value = readVarint();
+            return value == 0 ? null : Instant.ofEpochMilli(value - 1);
+        }
+
+        private String readString() {
+            var prefix = readVarint();
+            if (prefix < 0 || prefix > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed length in WorkflowEvent encoding");
+            }
+            var length = (int) prefix;
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated WorkflowEvent encoding");
+            }
+            var value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private long readVarint() {
+            var value = 0L;
+            for (var shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated WorkflowEvent encoding");
+                }
+                var b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed length in WorkflowEvent encoding");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.definition;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipException;
+
+/**
+ * A BoundedInputStream limits the number of bytes read from an uploaded, possibly decompressed, stream, so that a small compressed
+ * upload can not expand without bounds. Exceeding the limit is answered with {@literal 413 Payload Too Large}, malformed compressed
+ * content with {@literal 400 Bad Request}. The limit is shared by all entries of an archive.
+ *
+ * @author Heiko Scherrer
+ */
+final class BoundedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long remaining;
+
+    BoundedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.remaining = maxBytes;
+    }
+
+    /**
+     * Translate malformed compressed content into a client error.
+     *
+     * @param e The exception raised by the decompressing stream
+     * @return The exception to throw
+     */
+    static ResponseStatusException malformed(ZipException e) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed compressed content: " + e.getMessage(), e);
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            var b = super.read();
+            if (b != -1) {
+                consumed(1);
+            }
+            return b;
+        } catch (ZipException e) {
+            throw malformed(e);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        try {
+            // Read one byte more than allowed to detect an exceeded limit
+            var read = super.read(b, off, (int) Math.min(len, remaining + 1));
+            if (read > 0) {
+                consumed(read);
+            }
+            return read;
+        } catch (ZipException e) {
+            throw malformed(e);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        var buffer = new byte[(int) Math.min(n, 8192)];
+        var skipped = 0L;
+        while (skipped < n) {
+            var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    private void consumed(int bytes) {
+        remaining -= bytes;
+        if (remaining < 0) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "The uploaded content exceeds the maximum of [%d] bytes".formatted(maxBytes));
+        }
+    }
+}
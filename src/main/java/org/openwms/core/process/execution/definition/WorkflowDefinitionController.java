@@ -0,0 +1,235 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.definition;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.ameba.http.MeasuredRestController;
+import org.openwms.core.http.AbstractWebController;
+import org.openwms.core.process.execution.api.WorkflowDefinitionSummary;
+import org.openwms.core.process.execution.spi.SpooledResource;
+import org.openwms.core.process.execution.spi.WorkflowFinder;
+import org.openwms.core.process.execution.spi.WorkflowUpdater;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A WorkflowDefinitionController offers access to the deployed workflow definitions. BPMN resources are served with their content
+ * hash as ETag, so clients can use conditional requests. Large models are downloaded and uploaded as streams, optionally gzip
+ * encoded, without being held in memory as a whole. Many models can be deployed at once, either as a zip archive or as a multipart
+ * request. The decompressed size and the number of models per upload are limited.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!FLOWABLE")
+@MeasuredRestController
+class WorkflowDefinitionController extends AbstractWebController {
+
+    private static final String GZIP = "gzip";
+    private static final String APPLICATION_ZIP_VALUE = "application/zip";
+    private final WorkflowFinder workflowFinder;
+    private final WorkflowUpdater workflowUpdater;
+    private final long maxUploadSize;
+    private final int maxUploadEntries;
+
+    WorkflowDefinitionController(WorkflowFinder workflowFinder, WorkflowUpdater workflowUpdater,
+            @Value("${owms.process.execution.definitions.upload.max-size:50MB}") DataSize maxUploadSize,
+            @Value("${owms.process.execution.definitions.upload.max-entries:100}") int maxUploadEntries) {
+        this.workflowFinder = workflowFinder;
+        this.workflowUpdater = workflowUpdater;
+        this.maxUploadSize = maxUploadSize.toBytes();
+        this.maxUploadEntries = maxUploadEntries;
+    }
+
+    @GetMapping("/workflow-definitions")
+    public ResponseEntity<PagedModel<WorkflowDefinitionSummary>> findSummaries(@PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(workflowFinder.findSummaries(pageable)));
+    }
+
+    @GetMapping(value = "/workflow-definitions/{id}/bpmn", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<String> loadProcessFile(@PathVariable String id, WebRequest request) {
+        var resource = workflowFinder.loadProcessResource(id);
+        var eTag = "\"" + resource.contentHash() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(resource.xml());
+    }
+
+    @GetMapping(value = "/workflow-definitions/{id}/bpmn/download", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<StreamingResponseBody> download(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var gzip = acceptsGzip(acceptEncoding);
+        var is = workflowFinder.openProcessFile(id);
+        StreamingResponseBody body = out -> {
+            try (is) {
+                if (gzip) {
+                    try (var gzipOut = new GZIPOutputStream(out, 8192)) {
+                        is.transferTo(gzipOut);
+                    }
+                } else {
+                    is.transferTo(out);
+                }
+            }
+        };
+        var response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"%s.bpmn20.xml\"".formatted(id))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+
+    @PutMapping(value = "/workflow-definitions/{id}/bpmn", consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<WorkflowDefinitionSummary> upload(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        try (var is = new BoundedInputStream(decode(request.getInputStream(), contentEncoding), maxUploadSize)) {
+            return ResponseEntity.ok(workflowUpdater.deploy(id, is));
+        }
+    }
+
+    @PostMapping(value = "/workflow-definitions/bulk", consumes = APPLICATION_ZIP_VALUE)
+    public ResponseEntity<List<WorkflowDefinitionSummary>> deployArchive(HttpServletRequest request) throws IOException {
+        var resources = new ArrayList<SpooledResource>();
+        try (var zip = new ZipInputStream(request.getInputStream())) {
+            var bounded = new BoundedInputStream(zip, maxUploadSize);
+            var entries = 0;
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                checkEntries(++entries);
+                if (!entry.isDirectory() && isBpmn(entry.getName())) {
+                    resources.add(SpooledResource.spool(entry.getName().substring(entry.getName().lastIndexOf('/') + 1), bounded));
+                }
+            }
+            return ResponseEntity.ok(workflowUpdater.deployAll(resources));
+        } catch (ZipException e) {
+            throw BoundedInputStream.malformed(e);
+        } finally {
+            closeAll(resources);
+        }
+    }
+
+    @PostMapping(value = "/workflow-definitions/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<WorkflowDefinitionSummary>> deployFiles(@RequestPart("files") List<MultipartFile> files) throws IOException {
+        checkEntries(files.size());
+        var resources = new ArrayList<SpooledResource>(files.size());
+        var remaining = maxUploadSize;
+        try {
+            for (var file : files) {
+                try (var is = new BoundedInputStream(file.getInputStream(), remaining)) {
+                    resources.add(SpooledResource.spool(file.getOriginalFilename(), is));
+                }
+                remaining -= file.getSize();
+            }
+            return ResponseEntity.ok(workflowUpdater.deployAll(resources));
+        } finally {
+            closeAll(resources);
+        }
+    }
+
+    private static InputStream decode(InputStream raw, String contentEncoding) throws IOException {
+        if (!GZIP.equalsIgnoreCase(contentEncoding)) {
+            return raw;
+        }
+        try {
+            return new GZIPInputStream(raw, 8192);
+        } catch (ZipException e) {
+            throw BoundedInputStream.malformed(e);
+        }
+    }
+
+    private void checkEntries(int entries) {
+        if (entries > maxUploadEntries) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "The upload exceeds the maximum of [%d] entries".formatted(maxUploadEntries));
+        }
+    }
+
+    /**
+     * Check whether the given {@literal Accept-Encoding} header accepts gzip. An explicit {@literal gzip} coding takes precedence over
+     * the {@literal *} wildcard, a quality value of {@literal 0} means not acceptable.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.split(";");
+            var name = parts[0].trim();
+            var acceptable = true;
+            for (var i = 1; i < parts.length; i++) {
+                var param = parts[i].trim();
+                if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    acceptable = isPositive(param.substring(2).trim());
+                }
+            }
+            if (GZIP.equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                return acceptable;
+            }
+            if ("*".equals(name)) {
+                wildcard = acceptable;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean isPositive(String qValue) {
+        try {
+            return Double.parseDouble(qValue) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBpmn(String name) {
+        return name.endsWith(".bpmn20.xml") || name.endsWith(".bpmn");
+    }
+
+    private static void closeAll(List<SpooledResource> resources) throws IOException {
+        for (var resource : resources) {
+            resource.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.events;
+
+import org.openwms.core.event.RootApplicationEvent;
+
+/**
+ * A WorkflowDefinitionEvent signals that the state of a workflow definition has changed, e.g. a new version has been deployed.
+ *
+ * @author Heiko Scherrer
+ */
+public class WorkflowDefinitionEvent extends RootApplicationEvent {
+
+    private final EventType type;
+
+    /**
+     * Create a new WorkflowDefinitionEvent.
+     *
+     * @param processKey The key of the affected process definition, never {@literal null}
+     * @param type The type of change
+     */
+    public WorkflowDefinitionEvent(String processKey, EventType type) {
+        super(processKey);
+        this.type = type;
+    }
+
+    public String getProcessKey() {
+        return (String) getSource();
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public enum EventType {
+        DEPLOYED,
+        SUSPENDED,
+        ACTIVATED;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains application event types of the workflow execution.
+ */
+package org.openwms.core.process.execution.events;
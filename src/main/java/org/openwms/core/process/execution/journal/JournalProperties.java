@@ -0,0 +1,121 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * A JournalProperties bundles the configuration of the {@link WorkflowEventJournal}.
+ *
+ * @author Heiko Scherrer
+ */
+@ConfigurationProperties("owms.process.execution.journal")
+public class JournalProperties {
+
+    /** Whether propagated events are journaled. */
+    private boolean enabled = false;
+    /** The directory the segment files are stored in. */
+    private String directory = "./journal";
+    /** The size of one memory-mapped segment file, at most 2GB. */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    /** The maximum size of one encoded event, larger events are not journaled. Must fit into a segment. */
+    private DataSize maxRecordSize = DataSize.ofKilobytes(64);
+    /** Segments whose newest event is older are deleted. */
+    private Duration retention = Duration.ofDays(1);
+    /** Oldest segments are deleted as long as all segments together are larger. */
+    private DataSize maxSize = DataSize.ofGigabytes(1);
+    /** Maximum number of events waiting to be written, further events are not journaled. */
+    private int queueCapacity = 65536;
+    /** How often written segments are forced to disk. */
+    private Duration flushInterval = Duration.ofSeconds(1);
+    /** Maximum number of events returned by one replay request. */
+    private int maxReplaySize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public DataSize getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    public void setMaxRecordSize(DataSize maxRecordSize) {
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxReplaySize() {
+        return maxReplaySize;
+    }
+
+    public void setMaxReplaySize(int maxReplaySize) {
+        this.maxReplaySize = maxReplaySize;
+    }
+}
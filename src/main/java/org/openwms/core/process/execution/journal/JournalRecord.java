@@ -0,0 +1,32 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A JournalRecord is a {@link WorkflowEvent} read from the journal.
+ *
+ * @param sequence The sequence number the event has been journaled with, a gap means that events have been lost
+ * @param recordedAt When the event has been journaled
+ * @param event The event
+ * @author Heiko Scherrer
+ */
+public record JournalRecord(long sequence, Instant recordedAt, WorkflowEvent event) implements Serializable {
+}
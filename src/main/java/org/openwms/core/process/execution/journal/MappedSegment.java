@@ -0,0 +1,180 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import org.openwms.core.process.execution.api.WorkflowEventCodec;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A MappedSegment is one memory-mapped file of the journal. Records are appended as {@code length (int), sequence (long),
+ * timestamp (long), payload}; the length is written last, so a length of {@code 0} marks the end of the written part, also after a
+ * crash. The segment is written by one thread and read by many, readers see everything up to the committed position.
+ *
+ * @author Heiko Scherrer
+ */
+final class MappedSegment {
+
+    static final String SUFFIX = ".journal";
+    static final int HEADER_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES;
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private volatile int committed;
+    private volatile long lastSequence;
+    private volatile long lastTimestamp;
+
+    private MappedSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    /**
+     * Create a new, empty segment.
+     *
+     * @param directory The journal directory
+     * @param firstSequence The sequence number of the first record
+     * @param size The size of the segment in bytes
+     * @return The segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static MappedSegment create(Path directory, long firstSequence, int size) throws IOException {
+        var path = directory.resolve("%020d%s".formatted(firstSequence, SUFFIX));
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MappedSegment(path, firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    /**
+     * Open an existing segment and recover its committed position.
+     *
+     * @param path The segment file
+     * @return The segment
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static MappedSegment open(Path path) throws IOException {
+        var fileName = path.getFileName().toString();
+        var firstSequence = Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+        var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var segment = new MappedSegment(path, firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.recover();
+        return segment;
+    }
+
+    private void recover() {
+        var position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            var length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            lastSequence = buffer.getLong(position + Integer.BYTES);
+            lastTimestamp = buffer.getLong(position + Integer.BYTES + Long.BYTES);
+            position += HEADER_SIZE + length;
+        }
+        committed = position;
+    }
+
+    /**
+     * Append a record, only called by the writing thread.
+     *
+     * @param sequence The sequence number of the record
+     * @param timestamp The epoch millis the record has been written
+     * @param payload The encoded event
+     * @return {@literal false} if the segment is full
+     */
+    boolean append(long sequence, long timestamp, byte[] payload) {
+        var position = committed;
+        if (position + HEADER_SIZE + payload.length > buffer.capacity()) {
+            return false;
+        }
+        buffer.putLong(position + Integer.BYTES, sequence);
+        buffer.putLong(position + Integer.BYTES + Long.BYTES, timestamp);
+        buffer.put(position + HEADER_SIZE, payload);
+        buffer.putInt(position, payload.length);
+        lastSequence = sequence;
+        lastTimestamp = timestamp;
+        committed = position + HEADER_SIZE + payload.length;
+        return true;
+    }
+
+    /**
+     * Read records with a sequence number greater than the given one.
+     *
+     * @param afterSequence Only records after this sequence number
+     * @param limit The maximum number of records in the result
+     * @param result Where the records are added to
+     */
+    void read(long afterSequence, int limit, List<JournalRecord> result) {
+        var end = committed;
+        var position = 0;
+        while (position < end && result.size() < limit) {
+            var length = buffer.getInt(position);
+            var sequence = buffer.getLong(position + Integer.BYTES);
+            if (sequence > afterSequence) {
+                var payload = new byte[length];
+                buffer.get(position + HEADER_SIZE, payload);
+                result.add(new JournalRecord(sequence, Instant.ofEpochMilli(buffer.getLong(position + Integer.BYTES + Long.BYTES)),
+                        WorkflowEventCodec.decode(payload)));
+            }
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    boolean isEmpty() {
+        return committed == 0;
+    }
+
+    int size() {
+        return buffer.capacity();
+    }
+}
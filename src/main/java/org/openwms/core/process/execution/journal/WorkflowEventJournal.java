@@ -0,0 +1,342 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.api.WorkflowEventCodec;
+import org.openwms.core.process.execution.propagation.WorkflowEventObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ameba.LoggingCategories.BOOT;
+
+/**
+ * A WorkflowEventJournal appends all propagated {@link WorkflowEvent}s to local, memory-mapped segment files and numbers them with
+ * a sequence. Consumers that missed events replay them by sequence number.
+ * <p>
+ * The propagating thread only enqueues the event. A single writer thread encodes it with the {@link WorkflowEventCodec} and copies
+ * it into the mapped segment, without a system call per event. Segments are forced to disk periodically and deleted when they are
+ * older than the retention time or when the journal exceeds its maximum size.
+ * <p>
+ * Events that cannot be journaled, because the write queue is full or they are too large, still consume their sequence numbers.
+ * Consumers therefore recognize lost events as a gap in the sequence. If writing fails, the writer retries the pending events.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.journal.enabled", havingValue = "true")
+@Component
+public class WorkflowEventJournal implements WorkflowEventObserver, SmartLifecycle {
+
+    private static final Logger BOOT_LOGGER = LoggerFactory.getLogger(BOOT);
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventJournal.class);
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private final JournalProperties properties;
+    private final int segmentSize;
+    private final int maxRecordSize;
+    private final BlockingQueue<Pending> queue;
+    private final ConcurrentSkipListMap<Long, MappedSegment> segments = new ConcurrentSkipListMap<>();
+    private final Counter dropped;
+    private final AtomicLong skipped = new AtomicLong();
+    private Path directory;
+    private MappedSegment active;
+    private long nextSequence = 1;
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * An event to write.
+     *
+     * @param skipped The number of events dropped right before this one, their sequence numbers are skipped
+     */
+    private record Pending(WorkflowEvent event, long timestamp, long skipped) {
+    }
+
+    WorkflowEventJournal(JournalProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        var segmentBytes = properties.getSegmentSize().toBytes();
+        var maxRecordBytes = properties.getMaxRecordSize().toBytes();
+        if (segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The journal segment-size [%s] must not exceed [%d] bytes"
+                    .formatted(properties.getSegmentSize(), Integer.MAX_VALUE));
+        }
+        if (maxRecordBytes <= 0 || MappedSegment.HEADER_SIZE + maxRecordBytes > segmentBytes) {
+            throw new IllegalArgumentException(("The journal max-record-size [%s] must be greater than 0 and fit into a segment-size of "
+                    + "[%s] with a record header of [%d] bytes").formatted(properties.getMaxRecordSize(), properties.getSegmentSize(),
+                    MappedSegment.HEADER_SIZE));
+        }
+        this.segmentSize = (int) segmentBytes;
+        this.maxRecordSize = (int) maxRecordBytes;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.dropped = Counter.builder("owms.process.execution.journal.dropped")
+                .description("Number of WorkflowEvents not journaled because the write queue was full")
+                .register(meterRegistry);
+        Gauge.builder("owms.process.execution.journal.last.sequence", this, WorkflowEventJournal::getLastSequence)
+                .description("Sequence number of the latest journaled WorkflowEvent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only enqueues the event, it is written asynchronously.
+     */
+    @Override
+    public void onEvent(WorkflowEvent event) {
+        var skippedBefore = skipped.getAndSet(0);
+        if (!queue.offer(new Pending(event, System.currentTimeMillis(), skippedBefore))) {
+            skipped.addAndGet(skippedBefore + 1);
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Read journaled events.
+     *
+     * @param afterSequence Only events with a greater sequence number are returned
+     * @param limit The maximum number of events to return, capped at the configured maximum replay size
+     * @return The events in the order of their sequence, starting with the oldest retained one if older events have been deleted
+     */
+    public List<JournalRecord> read(long afterSequence, int limit) {
+        var max = Math.min(limit, properties.getMaxReplaySize());
+        var result = new ArrayList<JournalRecord>(Math.min(max, 256));
+        var start = segments.floorKey(afterSequence + 1);
+        var candidates = start == null ? segments.values() : segments.tailMap(start, true).values();
+        for (var segment : candidates) {
+            if (result.size() >= max) {
+                break;
+            }
+            segment.read(afterSequence, max, result);
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of events that have not been journaled since the start, because the write queue was full or they exceeded
+     * the maximum record size.
+     *
+     * @return The number of dropped events
+     */
+    public long getDropped() {
+        return (long) dropped.count();
+    }
+
+    /**
+     * Return the sequence number of the oldest retained event.
+     *
+     * @return The sequence number, or {@code 0} if the journal is empty
+     */
+    public long getFirstSequence() {
+        return segments.values().stream().filter(s -> !s.isEmpty()).mapToLong(MappedSegment::getFirstSequence).findFirst().orElse(0);
+    }
+
+    /**
+     * Return the sequence number of the latest journaled event.
+     *
+     * @return The sequence number, or {@code 0} if the journal is empty
+     */
+    public long getLastSequence() {
+        var last = segments.lastEntry();
+        return last == null ? 0 : Math.max(0, last.getValue().getLastSequence());
+    }
+
+    private void open() throws IOException {
+        directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+        try (var files = Files.list(directory)) {
+            for (var file : files.filter(f -> f.getFileName().toString().endsWith(MappedSegment.SUFFIX)).sorted().toList()) {
+                var segment = MappedSegment.open(file);
+                segments.put(segment.getFirstSequence(), segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            roll(nextSequence);
+        } else {
+            active = segments.lastEntry().getValue();
+            nextSequence = active.getLastSequence() + 1;
+        }
+        BOOT_LOGGER.info("-- w/ WorkflowEvent journal in [{}], continuing at sequence [{}]", directory.toAbsolutePath(), nextSequence);
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        if (active != null && active.isEmpty()) {
+            // An empty segment of a former, smaller segment-size is replaced
+            segments.remove(active.getFirstSequence());
+            active.delete();
+        } else if (active != null) {
+            active.force();
+        }
+        active = MappedSegment.create(directory, firstSequence, segmentSize);
+        segments.put(active.getFirstSequence(), active);
+        applyRetention();
+    }
+
+    private void write(Pending pending) throws IOException {
+        var sequence = nextSequence + pending.skipped();
+        byte[] payload;
+        try {
+            payload = WorkflowEventCodec.encode(pending.event());
+        } catch (RuntimeException e) {
+            LOGGER.error("WorkflowEvent cannot be encoded and is not journaled: [{}]", e.getMessage(), e);
+            dropped.increment();
+            nextSequence = sequence + 1;
+            return;
+        }
+        if (payload.length > maxRecordSize) {
+            LOGGER.error("WorkflowEvent of [{}] bytes exceeds the maximum record size and is not journaled", payload.length);
+            dropped.increment();
+        } else if (!active.append(sequence, pending.timestamp(), payload)) {
+            // A record of the maximum size always fits into an empty segment
+            roll(sequence);
+            active.append(sequence, pending.timestamp(), payload);
+        }
+        nextSequence = sequence + 1;
+    }
+
+    void applyRetention() throws IOException {
+        var expiry = System.currentTimeMillis() - properties.getRetention().toMillis();
+        var maxSize = properties.getMaxSize().toBytes();
+        var totalSize = segments.values().stream().mapToLong(MappedSegment::size).sum();
+        for (var segment : segments.values()) {
+            if (segment == active || (totalSize <= maxSize && segment.getLastTimestamp() >= expiry)) {
+                break;
+            }
+            segments.remove(segment.getFirstSequence());
+            segment.delete();
+            totalSize -= segment.size();
+            LOGGER.debug("Deleted journal segment starting at sequence [{}]", segment.getFirstSequence());
+        }
+    }
+
+    private void run() {
+        var lastFlush = System.nanoTime();
+        var flushInterval = properties.getFlushInterval().toNanos();
+        var batch = new ArrayDeque<Pending>(256);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, 255);
+                    }
+                }
+                while (!batch.isEmpty()) {
+                    write(batch.peekFirst());
+                    batch.removeFirst();
+                }
+                if (System.nanoTime() - lastFlush >= flushInterval) {
+                    active.force();
+                    applyRetention();
+                    lastFlush = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (!running) {
+                    LOGGER.error("Writing the WorkflowEvent journal failed while stopping, [{}] events are lost: [{}]", batch.size(),
+                            e.getMessage(), e);
+                    dropped.increment(batch.size());
+                    batch.clear();
+                    continue;
+                }
+                // The pending events are kept and written again
+                LOGGER.error("Writing the WorkflowEvent journal failed, retry [{}] events: [{}]", batch.size(), e.getMessage(), e);
+                if (!sleep(RETRY_DELAY_MILLIS)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the WorkflowEvent journal in " + properties.getDirectory(), e);
+        }
+        running = true;
+        writer = new Thread(this::run, "WorkflowEventJournal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes the pending events and forces all segments to disk.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (var segment : segments.values()) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                LOGGER.warn("Closing journal segment [{}] failed: [{}]", segment.getFirstSequence(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
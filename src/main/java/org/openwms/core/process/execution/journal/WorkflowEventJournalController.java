@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import org.ameba.app.SpringProfiles;
+import org.ameba.http.MeasuredRestController;
+import org.openwms.core.http.AbstractWebController;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * A WorkflowEventJournalController offers to replay journaled WorkflowEvents. Clients remember the sequence number of the last event
+ * they have processed and ask for the events after it. If a returned sequence number is not the next expected one, the events in
+ * between have been deleted by retention or could not be journaled. The total number of events that could not be journaled is sent
+ * in the {@value #HEADER_DROPPED} header.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.journal.enabled", havingValue = "true")
+@MeasuredRestController
+class WorkflowEventJournalController extends AbstractWebController {
+
+    static final String HEADER_FIRST_SEQUENCE = "X-Journal-First-Sequence";
+    static final String HEADER_LAST_SEQUENCE = "X-Journal-Last-Sequence";
+    static final String HEADER_DROPPED = "X-Journal-Dropped";
+    private final WorkflowEventJournal journal;
+
+    WorkflowEventJournalController(WorkflowEventJournal journal) {
+        this.journal = journal;
+    }
+
+    @GetMapping("/workflow-events/journal")
+    public ResponseEntity<List<JournalRecord>> replay(@RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok()
+                .header(HEADER_FIRST_SEQUENCE, String.valueOf(journal.getFirstSequence()))
+                .header(HEADER_LAST_SEQUENCE, String.valueOf(journal.getLastSequence()))
+                .header(HEADER_DROPPED, String.valueOf(journal.getDropped()))
+                .body(journal.read(after, Math.max(1, limit)));
+    }
+}
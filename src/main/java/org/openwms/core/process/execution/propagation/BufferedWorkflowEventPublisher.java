@@ -0,0 +1,178 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.constraints.NotNull;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A BufferedWorkflowEventPublisher decouples the engine's execution thread from the broker. Events are put into a bounded
+ * in-memory buffer and a dedicated thread drains them in batches to the {@link ConfirmingAmqpSender}. When the buffer is full the
+ * configured {@link OverflowPolicy} applies.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.events.delivery", havingValue = "BUFFERED", matchIfMissing = true)
+@Component
+class BufferedWorkflowEventPublisher implements WorkflowEventPublisher, SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedWorkflowEventPublisher.class);
+    private final ConfirmingAmqpSender sender;
+    private final PropagationProperties.Publisher settings;
+    private final BlockingQueue<WorkflowEvent> buffer;
+    private final Counter dropped;
+    private final Counter failed;
+    private final DistributionSummary batchSize;
+    private volatile boolean running;
+    private Thread drainer;
+
+    BufferedWorkflowEventPublisher(ConfirmingAmqpSender sender, PropagationProperties properties, MeterRegistry meterRegistry) {
+        this.sender = sender;
+        this.settings = properties.getPublisher();
+        this.buffer = new ArrayBlockingQueue<>(settings.getCapacity());
+        this.dropped = Counter.builder("owms.process.execution.events.dropped")
+                .description("Number of WorkflowEvents dropped because the publishing buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("owms.process.execution.events.failed")
+                .description("Number of WorkflowEvents that could not be sent after all retries")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("owms.process.execution.events.batch.size")
+                .description("Number of WorkflowEvents sent within one batch")
+                .register(meterRegistry);
+        Gauge.builder("owms.process.execution.events.queue.depth", buffer, BlockingQueue::size)
+                .description("Number of WorkflowEvents waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(@NotNull WorkflowEvent event) {
+        switch (settings.getOverflowPolicy()) {
+            case DROP_NEWEST -> {
+                if (!buffer.offer(event)) {
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (!buffer.offer(event, settings.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                        dropped.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        var batch = new ArrayList<WorkflowEvent>(settings.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                var first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, settings.getBatchSize() - 1);
+                batchSize.record(batch.size());
+                if (!sender.send(batch)) {
+                    failed.increment(batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while draining WorkflowEvents, [{}] events not sent", buffer.size());
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error while sending WorkflowEvents: [{}]", e.getMessage(), e);
+                failed.increment(batch.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        running = true;
+        drainer = new Thread(this::drain, "WorkflowEventPublisher");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops accepting new batches once the buffer has been drained.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            drainer.join(settings.getConfirmTimeout().toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops after the stages in front of the publisher, so that events they flush on shutdown are still delivered.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A BusinessKeyCache remembers the business key of running process instances, so that propagators are able to enrich events that
+ * do not carry the business key without querying the engine. The cache is bounded and evicts the least recently used entries.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+public class BusinessKeyCache {
+
+    private final Map<String, String> businessKeys;
+
+    BusinessKeyCache(@Value("${owms.process.execution.amqp.instance-cache-size:10000}") int instanceCacheSize) {
+        this.businessKeys = Collections.synchronizedMap(new LinkedHashMap<String, String>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > instanceCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Remember the business key of a started process instance.
+     *
+     * @param processInstanceId The ID of the process instance
+     * @param businessKey The business key, ignored if {@literal null}
+     */
+    public void started(String processInstanceId, String businessKey) {
+        if (processInstanceId != null && businessKey != null) {
+            businessKeys.put(processInstanceId, businessKey);
+        }
+    }
+
+    /**
+     * Return the business key of a running process instance.
+     *
+     * @param processInstanceId The ID of the process instance
+     * @return The business key or {@literal null} if unknown
+     */
+    public String get(String processInstanceId) {
+        return processInstanceId == null ? null : businessKeys.get(processInstanceId);
+    }
+
+    /**
+     * Forget the business key of an ended process instance.
+     *
+     * @param processInstanceId The ID of the process instance
+     * @return The business key or {@literal null} if unknown
+     */
+    public String ended(String processInstanceId) {
+        return processInstanceId == null ? null : businessKeys.remove(processInstanceId);
+    }
+}
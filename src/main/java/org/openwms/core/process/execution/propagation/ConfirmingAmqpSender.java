@@ -0,0 +1,173 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.api.WorkflowEventCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.ameba.LoggingCategories.BOOT;
+
+/**
+ * A ConfirmingAmqpSender sends a batch of {@link WorkflowEvent}s over one channel and waits for the broker to confirm the whole
+ * batch. Publisher confirms are mandatory, the application fails to start unless the connection factory is configured with
+ * {@literal spring.rabbitmq.publisher-confirm-type=simple}. The wire format is configured per exchange, binary encoded events carry
+ * the {@link WorkflowEventCodec#CONTENT_TYPE}.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+class ConfirmingAmqpSender {
+
+    private static final Logger BOOT_LOGGER = LoggerFactory.getLogger(BOOT);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfirmingAmqpSender.class);
+    private final String exchangeName;
+    private final RabbitTemplate rabbitTemplate;
+    private final PropagationProperties properties;
+    private final String contentType;
+    private final WorkflowEventMessageConverter converter;
+    private final Timer confirmLatency;
+
+    ConfirmingAmqpSender(@Value("${owms.process.execution.amqp.exchange-name}") String exchangeName, RabbitTemplate rabbitTemplate,
+            PropagationProperties properties, MeterRegistry meterRegistry) {
+        this.exchangeName = exchangeName;
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        requireConfirms(rabbitTemplate.getConnectionFactory());
+        this.contentType = properties.getWire().formatOf(exchangeName) == PropagationProperties.WireFormat.BINARY
+                ? WorkflowEventCodec.CONTENT_TYPE
+                : null;
+        this.converter = new WorkflowEventMessageConverter(rabbitTemplate.getMessageConverter());
+        this.confirmLatency = Timer.builder("owms.process.execution.events.confirm.latency")
+                .description("Time to send a batch of WorkflowEvents until the broker has confirmed it")
+                .register(meterRegistry);
+        BOOT_LOGGER.info("-- w/ [{}] wire format for WorkflowEvents", properties.getWire().formatOf(exchangeName));
+    }
+
+    private static void requireConfirms(ConnectionFactory connectionFactory) {
+        if (!connectionFactory.isSimplePublisherConfirms()) {
+            throw new IllegalStateException(("WorkflowEvents require simple publisher confirms but the connection factory [%s] does "
+                    + "not use them, set spring.rabbitmq.publisher-confirm-type=simple").formatted(connectionFactory));
+        }
+    }
+
+    /**
+     * Return the routing key a {@link WorkflowEvent} is sent with.
+     *
+     * @param event The event
+     * @return The routing key
+     */
+    static String routingKey(WorkflowEvent event) {
+        return "execution.event." + event.getEventType();
+    }
+
+    /**
+     * Send the given events and wait for the confirmation of the broker. A failed batch is re-sent with an exponential backoff up to
+     * the configured number of retries.
+     *
+     * @param events The batch of events to send
+     * @return {@literal true} if the batch has been sent and confirmed
+     */
+    boolean send(List<WorkflowEvent> events) {
+        return send(events, null);
+    }
+
+    /**
+     * Send the given events with the given message IDs, so that consumers are able to detect redeliveries.
+     *
+     * @param events The batch of events to send
+     * @param messageIds The AMQP message ID of each event, in the same order as the events, or {@literal null}
+     * @return {@literal true} if the batch has been sent and confirmed
+     * @see #send(List)
+     */
+    boolean send(List<WorkflowEvent> events, List<String> messageIds) {
+        var publisher = properties.getPublisher();
+        for (var attempt = 0; attempt <= publisher.getMaxRetries(); attempt++) {
+            try {
+                sendOnce(events, messageIds);
+                return true;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Sending [{}] WorkflowEvents failed in attempt [{}]: [{}]", events.size(), attempt + 1, e.getMessage());
+                if (attempt == publisher.getMaxRetries()
+                        || !sleep(backoff(publisher.getRetryBackoff().toMillis(), attempt, publisher.getMaxRetryBackoff().toMillis()))) {
+                    break;
+                }
+            }
+        }
+        LOGGER.error("Giving up to send [{}] WorkflowEvents", events.size());
+        return false;
+    }
+
+    private void sendOnce(List<WorkflowEvent> events, List<String> messageIds) {
+        var start = System.nanoTime();
+        rabbitTemplate.invoke(operations -> {
+            for (var i = 0; i < events.size(); i++) {
+                var event = events.get(i);
+                var messageProperties = new MessageProperties();
+                if (contentType != null) {
+                    messageProperties.setContentType(contentType);
+                }
+                if (messageIds != null) {
+                    messageProperties.setMessageId(messageIds.get(i));
+                }
+                operations.send(exchangeName, routingKey(event), converter.toMessage(event, messageProperties));
+            }
+            operations.waitForConfirmsOrDie(properties.getPublisher().getConfirmTimeout().toMillis());
+            return null;
+        });
+        confirmLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Return the delay before the next attempt, the initial delay doubled with each attempt up to the maximum.
+     *
+     * @param initial The initial delay
+     * @param attempt The failed attempt, starting with 0
+     * @param max The maximum delay
+     * @return The delay
+     */
+    static long backoff(long initial, int attempt, long max) {
+        var delay = Math.min(initial, max);
+        for (var i = 0; i < attempt && delay < max; i++) {
+            delay = delay > max / 2 ? max : delay << 1;
+        }
+        return delay;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
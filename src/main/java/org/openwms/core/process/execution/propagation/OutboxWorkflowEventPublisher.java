@@ -0,0 +1,61 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.validation.constraints.NotNull;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * A OutboxWorkflowEventPublisher stores {@link WorkflowEvent}s in the outbox table as part of the current engine transaction. If the
+ * transaction rolls back, the events are gone as well. The {@link WorkflowEventOutboxRelay} sends them after commit.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.events.delivery", havingValue = "OUTBOX")
+@Component
+class OutboxWorkflowEventPublisher implements WorkflowEventPublisher {
+
+    private final WorkflowEventOutboxRepository repository;
+
+    OutboxWorkflowEventPublisher(WorkflowEventOutboxRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Joins the current transaction.
+     */
+    @Transactional
+    @Override
+    public void publish(@NotNull WorkflowEvent event) {
+        repository.save(new WorkflowEventOutboxEntry(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+/**
+ * A OverflowPolicy defines what happens to a {@link org.openwms.core.process.execution.api.WorkflowEvent} when the publishing buffer
+ * is full.
+ *
+ * @author Heiko Scherrer
+ */
+public enum OverflowPolicy {
+
+    /** The new event is dropped. */
+    DROP_NEWEST,
+    /** The oldest buffered event is dropped in favour of the new one. */
+    DROP_OLDEST,
+    /** The publishing thread waits for free capacity up to a timeout and drops the new event afterwards. */
+    BLOCK;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * A PropagationConfiguration.
+ *
+ * @author Heiko Scherrer
+ */
+@Configuration
+@EnableConfigurationProperties(PropagationProperties.class)
+class PropagationConfiguration {
+
+    /**
+     * Applies changed filter rules, e.g. after a refresh from the config server.
+     */
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    @Configuration
+    static class FilterRefreshConfiguration {
+
+        private static final String FILTER_PREFIX = "owms.process.execution.events.filter";
+        private final Environment environment;
+        private final WorkflowEventFilter filter;
+
+        FilterRefreshConfiguration(Environment environment, WorkflowEventFilter filter) {
+            this.environment = environment;
+            this.filter = filter;
+        }
+
+        @EventListener
+        public void onEnvironmentChange(EnvironmentChangeEvent event) {
+            if (event.getKeys().stream().anyMatch(key -> key.startsWith(FILTER_PREFIX))) {
+                filter.refresh(Binder.get(environment)
+                        .bind(FILTER_PREFIX, PropagationProperties.Filter.class)
+                        .orElseGet(PropagationProperties.Filter::new));
+            }
+        }
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A PropagationProperties bundles the configuration of the {@link org.openwms.core.process.execution.api.WorkflowEvent} propagation.
+ *
+ * @author Heiko Scherrer
+ */
+@ConfigurationProperties("owms.process.execution.events")
+public class PropagationProperties {
+
+    /** How WorkflowEvents are delivered to the broker. */
+    private Delivery delivery = Delivery.BUFFERED;
+    /** Settings of the buffered AMQP publisher. */
+    private final Publisher publisher = new Publisher();
+    /** Settings of the transactional outbox. */
+    private final Outbox outbox = new Outbox();
+    /** Which events are propagated. */
+    private final Filter filter = new Filter();
+    /** How events are encoded on the wire. */
+    private final Wire wire = new Wire();
+    /** Whether and how activity events are coalesced into snapshots. */
+    private final Coalescing coalescing = new Coalescing();
+    /** Settings of the streaming endpoint. */
+    private final Stream stream = new Stream();
+
+    public Delivery getDelivery() {
+        return delivery;
+    }
+
+    public void setDelivery(Delivery delivery) {
+        this.delivery = delivery;
+    }
+
+    public Publisher getPublisher() {
+        return publisher;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public Wire getWire() {
+        return wire;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public Stream getStream() {
+        return stream;
+    }
+
+    public enum Delivery {
+        /** Events are buffered in memory and sent asynchronously, independent of the engine transaction. */
+        BUFFERED,
+        /** Events are stored in an outbox table within the engine transaction and relayed after commit. */
+        OUTBOX;
+    }
+
+    public enum WireFormat {
+        /** Events are converted with the converter configured at the RabbitTemplate. */
+        DEFAULT,
+        /** Events are encoded with the compact {@link org.openwms.core.process.execution.api.WorkflowEventCodec}. */
+        BINARY;
+    }
+
+    public static class Publisher {
+
+        /** Maximum number of events held in memory before the overflow policy applies. */
+        private int capacity = 8192;
+        /** Maximum number of events sent within one batch. */
+        private int batchSize = 100;
+        /** What to do with new events when the buffer is full. */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        /** How long a publishing thread waits for free capacity with {@link OverflowPolicy#BLOCK}. */
+        private Duration blockTimeout = Duration.ofMillis(100);
+        /** How long to wait for the broker to confirm a batch. */
+        private Duration confirmTimeout = Duration.ofSeconds(5);
+        /** How often a batch is re-sent if it has not been confirmed. */
+        private int maxRetries = 3;
+        /** The initial delay between retries, doubled with each attempt. */
+        private Duration retryBackoff = Duration.ofMillis(200);
+        /** The upper limit of the delay between retries. */
+        private Duration maxRetryBackoff = Duration.ofSeconds(30);
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+
+        public Duration getConfirmTimeout() {
+            return confirmTimeout;
+        }
+
+        public void setConfirmTimeout(Duration confirmTimeout) {
+            this.confirmTimeout = confirmTimeout;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+
+        public Duration getMaxRetryBackoff() {
+            return maxRetryBackoff;
+        }
+
+        public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+            this.maxRetryBackoff = maxRetryBackoff;
+        }
+    }
+
+    public static class Outbox {
+
+        /** Maximum number of outbox entries claimed and sent at once. */
+        private int batchSize = 200;
+        /** Delay between two polls of the outbox table. */
+        private Duration pollInterval = Duration.ofMillis(500);
+        /** How long claimed entries are reserved for a relay before other relays may claim them. */
+        private Duration claimTimeout = Duration.ofMinutes(1);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+    }
+
+    public static class Filter {
+
+        /** The rule for all process definitions without a specific rule. */
+        private Rule defaults = new Rule();
+        /** Specific rules, mapped by process definition key. */
+        private Map<String, Rule> processes = new HashMap<>();
+
+        public Rule getDefaults() {
+            return defaults;
+        }
+
+        public void setDefaults(Rule defaults) {
+            this.defaults = defaults;
+        }
+
+        public Map<String, Rule> getProcesses() {
+            return processes;
+        }
+
+        public void setProcesses(Map<String, Rule> processes) {
+            this.processes = processes;
+        }
+    }
+
+    public static class Rule {
+
+        /** The event types to propagate, an empty set means all types. */
+        private Set<WorkflowEventType> eventTypes = new LinkedHashSet<>();
+        /** Propagate only process level lifecycle events. */
+        private boolean lifecycleOnly = false;
+        /** Ratio of activity and job events that are propagated, between 0.0 (none) and 1.0 (all). */
+        private double samplingRatio = 1.0;
+
+        public Set<WorkflowEventType> getEventTypes() {
+            return eventTypes;
+        }
+
+        public void setEventTypes(Set<WorkflowEventType> eventTypes) {
+            this.eventTypes = eventTypes;
+        }
+
+        public boolean isLifecycleOnly() {
+            return lifecycleOnly;
+        }
+
+        public void setLifecycleOnly(boolean lifecycleOnly) {
+            this.lifecycleOnly = lifecycleOnly;
+        }
+
+        public double getSamplingRatio() {
+            return samplingRatio;
+        }
+
+        public void setSamplingRatio(double samplingRatio) {
+            this.samplingRatio = samplingRatio;
+        }
+    }
+
+    public static class Wire {
+
+        /** The wire format used for all exchanges without a specific format. */
+        private WireFormat format = WireFormat.DEFAULT;
+        /** Specific wire formats, mapped by exchange name. */
+        private Map<String, WireFormat> exchanges = new HashMap<>();
+
+        /**
+         * Return the wire format to use for the given exchange.
+         *
+         * @param exchangeName The name of the exchange
+         * @return The format
+         */
+        public WireFormat formatOf(String exchangeName) {
+            return exchanges.getOrDefault(exchangeName, format);
+        }
+
+        public WireFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(WireFormat format) {
+            this.format = format;
+        }
+
+        public Map<String, WireFormat> getExchanges() {
+            return exchanges;
+        }
+
+        public void setExchanges(Map<String, WireFormat> exchanges) {
+            this.exchanges = exchanges;
+        }
+    }
+
+    public static class Coalescing {
+
+        /** Coalesce activity events per process instance into snapshots instead of passing each event through. */
+        private boolean enabled = false;
+        /** How long activity events of a process instance are collected before a snapshot is sent. */
+        private Duration window = Duration.ofSeconds(5);
+        /** Maximum number of activities in one snapshot, a full snapshot is sent immediately. */
+        private int maxActivities = 500;
+        /** After which time without events the state of a process instance is flushed and evicted, e.g. if its end event is lost. */
+        private Duration maxIdle = Duration.ofMinutes(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxActivities() {
+            return maxActivities;
+        }
+
+        public void setMaxActivities(int maxActivities) {
+            this.maxActivities = maxActivities;
+        }
+
+        public Duration getMaxIdle() {
+            return maxIdle;
+        }
+
+        public void setMaxIdle(Duration maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+    }
+
+    public static class Stream {
+
+        /** Number of events buffered per subscriber, the oldest events are dropped if a subscriber falls behind. */
+        private int bufferSize = 256;
+        /** Maximum number of concurrent subscribers. */
+        private int maxSubscribers = 100;
+        /** After which time a stream is closed, clients are expected to reconnect. */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
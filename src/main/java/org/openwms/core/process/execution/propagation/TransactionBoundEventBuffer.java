@@ -0,0 +1,77 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.validation.constraints.NotNull;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A TransactionBoundEventBuffer collects the {@link WorkflowEvent}s of the current transaction and hands them over to the
+ * {@link WorkflowEventPipeline} in one go after the transaction has been committed. Events of a rolled back transaction are
+ * discarded. Without an active transaction, or if the pipeline itself takes part in the transaction, events are passed through
+ * immediately.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+public class TransactionBoundEventBuffer {
+
+    private final WorkflowEventPipeline pipeline;
+
+    TransactionBoundEventBuffer(WorkflowEventPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Add an event to the buffer of the current transaction.
+     *
+     * @param event The event
+     */
+    public void add(@NotNull WorkflowEvent event) {
+        if (pipeline.isTransactional() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            pipeline.publish(event);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        var events = (List<WorkflowEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            var buffer = new ArrayList<WorkflowEvent>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.forEach(pipeline::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionBoundEventBuffer.this);
+                }
+            });
+            events = buffer;
+        }
+        events.add(event);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A WorkflowEventBroadcaster fans out propagated {@link WorkflowEvent}s to all stream subscribers. It is one shared observer of the
+ * {@link WorkflowEventPipeline}, regardless of the number of subscribers.
+ * <p>
+ * Each subscriber has a bounded buffer. The propagating thread only appends to the buffers of matching subscribers and drops the
+ * oldest buffered event if a buffer is full. Writing to the client happens on a separate delivery thread per active subscriber, so
+ * a slow client neither stalls the engine nor other subscribers.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+class WorkflowEventBroadcaster implements WorkflowEventObserver, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventBroadcaster.class);
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("WorkflowEventStream-"));
+    private final PropagationProperties.Stream settings;
+    private final Counter dropped;
+
+    WorkflowEventBroadcaster(PropagationProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getStream();
+        this.dropped = Counter.builder("owms.process.execution.events.stream.dropped")
+                .description("Number of WorkflowEvents dropped because a stream subscriber fell behind")
+                .register(meterRegistry);
+        meterRegistry.gauge("owms.process.execution.events.stream.subscribers", subscriptions, Set::size);
+    }
+
+    /**
+     * A Sink writes events to one subscriber.
+     */
+    @FunctionalInterface
+    interface Sink {
+
+        void send(WorkflowEvent event) throws IOException;
+    }
+
+    /**
+     * Subscribe to events matching the given criteria.
+     *
+     * @param processDefinitionKey Only events of process definitions with this key, or {@literal null} for all
+     * @param processInstanceId Only events of this process instance, or {@literal null} for all
+     * @param sink Where the events are written to
+     * @return The subscription or {@literal null} if the maximum number of subscribers is reached
+     */
+    Subscription subscribe(String processDefinitionKey, String processInstanceId, Sink sink) {
+        synchronized (subscriptions) {
+            if (subscriptions.size() >= settings.getMaxSubscribers()) {
+                return null;
+            }
+            var subscription = new Subscription(processDefinitionKey, processInstanceId, sink);
+            subscriptions.add(subscription);
+            return subscription;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(WorkflowEvent event) {
+        for (var subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        subscriptions.clear();
+        deliveryExecutor.shutdownNow();
+    }
+
+    /**
+     * A Subscription is a subscriber with its own bounded buffer.
+     */
+    final class Subscription {
+
+        private final String processDefinitionKey;
+        private final String processInstanceId;
+        private final Sink sink;
+        private final ArrayBlockingQueue<WorkflowEvent> buffer = new ArrayBlockingQueue<>(settings.getBufferSize());
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        private Subscription(String processDefinitionKey, String processInstanceId, Sink sink) {
+            this.processDefinitionKey = processDefinitionKey;
+            this.processInstanceId = processInstanceId;
+            this.sink = sink;
+        }
+
+        private boolean matches(WorkflowEvent event) {
+            return (processDefinitionKey == null || Objects.equals(processDefinitionKey, event.getProcessDefinitionKey()))
+                    && (processInstanceId == null || Objects.equals(processInstanceId, event.getProcessInstanceId()));
+        }
+
+        private void offer(WorkflowEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+            }
+            scheduleDelivery();
+        }
+
+        private void scheduleDelivery() {
+            if (delivering.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::deliver);
+                } catch (RejectedExecutionException e) {
+                    delivering.set(false);
+                }
+            }
+        }
+
+        private void deliver() {
+            try {
+                WorkflowEvent event;
+                while ((event = buffer.poll()) != null) {
+                    sink.send(event);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Stream subscriber is gone: [{}]", e.getMessage());
+                cancel();
+                return;
+            } finally {
+                delivering.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                scheduleDelivery();
+            }
+        }
+
+        /**
+         * Stop receiving events.
+         */
+        void cancel() {
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowActivity;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.ameba.LoggingCategories.BOOT;
+
+/**
+ * A WorkflowEventCoalescer collects the activity events of each process instance and sends them as one
+ * {@link WorkflowEventType#PROCESS_SNAPSHOT} event listing the visited activities and their durations. A snapshot is sent when the
+ * configured window has elapsed, when it is full, and right before the event that ends the process instance. All other events are
+ * passed through unchanged.
+ * <p>
+ * Activity events are held in memory until the snapshot is sent. With the outbox delivery they are collected when they occur, so a
+ * rolled back transaction may leave its activities in the next snapshot. The state of a process instance without any event for the
+ * configured maximum idle time is flushed and evicted, because its end event may have been filtered out or never arrive.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.events.coalescing.enabled", havingValue = "true")
+@Component
+class WorkflowEventCoalescer implements SmartLifecycle {
+
+    private static final Logger BOOT_LOGGER = LoggerFactory.getLogger(BOOT);
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventCoalescer.class);
+    private final WorkflowEventPublisher publisher;
+    private final TaskScheduler taskScheduler;
+    private final PropagationProperties.Coalescing settings;
+    private final Map<String, InstanceState> instances = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final Counter evicted;
+    private volatile ScheduledFuture<?> scheduledFuture;
+
+    WorkflowEventCoalescer(WorkflowEventPublisher publisher, TaskScheduler taskScheduler, PropagationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.taskScheduler = taskScheduler;
+        this.settings = properties.getCoalescing();
+        this.coalesced = Counter.builder("owms.process.execution.events.coalesced")
+                .description("Number of activity events merged into snapshots")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("owms.process.execution.events.coalescing.evicted")
+                .description("Number of process instances evicted from coalescing without having seen their end event")
+                .register(meterRegistry);
+        meterRegistry.gauge("owms.process.execution.events.coalescing.instances", instances, Map::size);
+        BOOT_LOGGER.info("-- w/ WorkflowEvent coalescing within [{}]", settings.getWindow());
+    }
+
+    void accept(WorkflowEvent event) {
+        var processInstanceId = event.getProcessInstanceId();
+        var type = toWorkflowEventType(event.getEventType());
+        if (processInstanceId == null || type == null) {
+            publisher.publish(event);
+            return;
+        }
+        switch (type) {
+            case ACTIVITY_STARTED, ACTIVITY_COMPLETED -> {
+                var state = instances.compute(processInstanceId, (id, existing) -> {
+                    var result = existing == null ? new InstanceState(processInstanceId) : existing;
+                    result.record(type, event);
+                    return result;
+                });
+                coalesced.increment();
+                if (state.visited() >= settings.getMaxActivities()) {
+                    send(state.drain(false));
+                }
+            }
+            case PROCESS_COMPLETED, PROCESS_CANCELLED, PROCESS_COMPLETED_WITH_ERROR_END_EVENT -> {
+                var state = instances.remove(processInstanceId);
+                if (state != null) {
+                    send(state.drain(true));
+                }
+                publisher.publish(event);
+            }
+            default -> publisher.publish(event);
+        }
+    }
+
+    void flushExpired() {
+        var now = Instant.now();
+        var deadline = now.minus(settings.getWindow());
+        var idleDeadline = now.minus(settings.getMaxIdle());
+        try {
+            for (var entry : instances.entrySet()) {
+                var state = entry.getValue();
+                if (state.isIdle(idleDeadline) && evict(entry.getKey(), state, idleDeadline)) {
+                    continue;
+                }
+                if (state.isExpired(deadline)) {
+                    send(state.drain(false));
+                    instances.computeIfPresent(entry.getKey(), (id, existing) -> existing.isEmpty() ? null : existing);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Sending WorkflowEvent snapshots failed: [{}]", e.getMessage(), e);
+        }
+    }
+
+    private boolean evict(String processInstanceId, InstanceState state, Instant idleDeadline) {
+        // Events of an instance are recorded within compute, so a concurrently recorded event keeps the state alive
+        var removed = new boolean[1];
+        instances.computeIfPresent(processInstanceId, (id, existing) -> {
+            removed[0] = existing == state && existing.isIdle(idleDeadline);
+            return removed[0] ? null : existing;
+        });
+        if (!removed[0]) {
+            return false;
+        }
+        evicted.increment();
+        LOGGER.warn("Evicting process instance [{}] from coalescing, no event for [{}]", processInstanceId, settings.getMaxIdle());
+        send(state.drain(true));
+        return true;
+    }
+
+    private void send(WorkflowEvent snapshot) {
+        if (snapshot != null) {
+            publisher.publish(snapshot);
+        }
+    }
+
+    private static WorkflowEventType toWorkflowEventType(String eventType) {
+        try {
+            return eventType == null ? null : WorkflowEventType.valueOf(eventType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        scheduledFuture = taskScheduler.scheduleWithFixedDelay(this::flushExpired, settings.getWindow());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pending snapshots are sent before stopping.
+     */
+    @Override
+    public void stop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            scheduledFuture = null;
+        }
+        instances.values().forEach(state -> send(state.drain(false)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return scheduledFuture != null;
+    }
+
+    private static final class InstanceState {
+
+        private final String processInstanceId;
+        private String processDefinitionId;
+        private String processDefinitionKey;
+        private String businessKey;
+        private Instant windowStart;
+        private Instant lastSeen;
+        private final Map<String, Instant> open = new HashMap<>();
+        private List<WorkflowActivity> visited = new ArrayList<>();
+
+        private InstanceState(String processInstanceId) {
+            this.processInstanceId = processInstanceId;
+        }
+
+        private synchronized void record(WorkflowEventType type, WorkflowEvent event) {
+            if (event.getProcessDefinitionId() != null) {
+                processDefinitionId = event.getProcessDefinitionId();
+                processDefinitionKey = event.getProcessDefinitionKey();
+            }
+            if (event.getBusinessKey() != null) {
+                businessKey = event.getBusinessKey();
+            }
+            lastSeen = Instant.now();
+            if (windowStart == null) {
+                windowStart = lastSeen;
+            }
+            var occurredAt = event.getOccurredAt() == null ? Instant.now() : event.getOccurredAt();
+            var key = event.getExecutionId() + '/' + event.getActivityId();
+            if (type == WorkflowEventType.ACTIVITY_STARTED) {
+                open.put(key, occurredAt);
+            } else {
+                var startedAt = open.remove(key);
+                visited.add(new WorkflowActivity(event.getActivityId(), startedAt,
+                        startedAt == null ? null : Duration.between(startedAt, occurredAt).toMillis()));
+            }
+        }
+
+        private synchronized int visited() {
+            return visited.size();
+        }
+
+        private synchronized boolean isExpired(Instant deadline) {
+            return windowStart != null && !windowStart.isAfter(deadline);
+        }
+
+        private synchronized boolean isIdle(Instant deadline) {
+            return lastSeen != null && !lastSeen.isAfter(deadline);
+        }
+
+        private synchronized boolean isEmpty() {
+            return visited.isEmpty() && open.isEmpty();
+        }
+
+        /**
+         * Build a snapshot of the visited activities and start a new window.
+         *
+         * @param includeOpen Whether activities that have been entered but not completed are listed as well
+         * @return The snapshot or {@literal null} if there is nothing to send
+         */
+        private synchronized WorkflowEvent drain(boolean includeOpen) {
+            if (includeOpen) {
+                open.forEach((key, startedAt) -> visited.add(new WorkflowActivity(key.substring(key.indexOf('/') + 1), startedAt, null)));
+                open.clear();
+            }
+            windowStart = null;
+            if (visited.isEmpty()) {
+                return null;
+            }
+            var snapshot = new WorkflowEvent(WorkflowEventType.PROCESS_SNAPSHOT.name(), null, processDefinitionId, processInstanceId,
+                    processDefinitionKey, businessKey);
+            snapshot.setOccurredAt(Instant.now());
+            snapshot.setActivities(List.copyOf(visited));
+            visited = new ArrayList<>();
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A WorkflowEventFilter decides per process definition and event type whether an event is propagated at all. Propagators ask the
+ * filter first thing, so that rejected events do not cause any allocation or serialization.
+ * <p>
+ * The configured rules are compiled into bitmasks and cached per process definition ID. The rules can be changed at runtime, see
+ * {@link #refresh(PropagationProperties.Filter)}.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+public class WorkflowEventFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventFilter.class);
+    private volatile Snapshot snapshot;
+
+    WorkflowEventFilter(PropagationProperties properties) {
+        refresh(properties.getFilter());
+    }
+
+    /**
+     * Check whether an event of the given type and process definition shall be propagated.
+     *
+     * @param type The engine independent event type
+     * @param processDefinitionId The ID of the process definition in the form {@code key:version:id}, may be {@literal null}
+     * @return {@literal true} if the event shall be propagated
+     */
+    public boolean accept(WorkflowEventType type, String processDefinitionId) {
+        var current = snapshot;
+        var rule = processDefinitionId == null ? current.defaults : current.ruleOf(processDefinitionId);
+        if ((rule.typeMask & type.mask()) == 0) {
+            return false;
+        }
+        if (type.isProcessLevel() || rule.samplingRatio >= 1.0) {
+            return true;
+        }
+        return rule.samplingRatio > 0.0 && ThreadLocalRandom.current().nextDouble() < rule.samplingRatio;
+    }
+
+    /**
+     * Replace the current rules with the given ones.
+     *
+     * @param settings The new filter configuration
+     */
+    public void refresh(PropagationProperties.Filter settings) {
+        var byKey = new HashMap<String, CompiledRule>();
+        settings.getProcesses().forEach((key, rule) -> byKey.put(key, CompiledRule.of(rule)));
+        snapshot = new Snapshot(CompiledRule.of(settings.getDefaults()), Map.copyOf(byKey), new ConcurrentHashMap<>());
+        LOGGER.info("WorkflowEvent filter rules applied for [{}] process definitions", byKey.size());
+    }
+
+    private record CompiledRule(long typeMask, double samplingRatio) {
+
+        static CompiledRule of(PropagationProperties.Rule rule) {
+            var mask = 0L;
+            for (var type : WorkflowEventType.values()) {
+                if ((rule.getEventTypes().isEmpty() || rule.getEventTypes().contains(type)) && (!rule.isLifecycleOnly() || type.isProcessLevel())) {
+                    mask |= type.mask();
+                }
+            }
+            return new CompiledRule(mask, Math.max(0.0, Math.min(1.0, rule.getSamplingRatio())));
+        }
+    }
+
+    private record Snapshot(CompiledRule defaults, Map<String, CompiledRule> byKey, Map<String, CompiledRule> byDefinitionId) {
+
+        CompiledRule ruleOf(String processDefinitionId) {
+            var rule = byDefinitionId.get(processDefinitionId);
+            if (rule == null) {
+                var idx = processDefinitionId.indexOf(':');
+                var key = idx < 0 ? processDefinitionId : processDefinitionId.substring(0, idx);
+                rule = byKey.getOrDefault(key, defaults);
+                byDefinitionId.put(processDefinitionId, rule);
+            }
+            return rule;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.api.WorkflowEventCodec;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * A WorkflowEventMessageConverter selects the encoding of {@link WorkflowEvent}s by the content type of the message. Messages with
+ * the {@link WorkflowEventCodec#CONTENT_TYPE} are encoded and decoded with the compact {@link WorkflowEventCodec}, all other
+ * messages are handled by the delegate. Consumers may register it as their listener container converter to accept both formats.
+ *
+ * @author Heiko Scherrer
+ */
+public class WorkflowEventMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+
+    public WorkflowEventMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A {@link WorkflowEvent} is encoded binary if the given properties request the {@link WorkflowEventCodec#CONTENT_TYPE}.
+     */
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (object instanceof WorkflowEvent event && isBinary(messageProperties)) {
+            var body = WorkflowEventCodec.encode(event);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        }
+        return delegate.toMessage(object, messageProperties);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        if (isBinary(message.getMessageProperties())) {
+            try {
+                return WorkflowEventCodec.decode(message.getBody());
+            } catch (IllegalArgumentException e) {
+                throw new MessageConversionException("Cannot decode WorkflowEvent", e);
+            }
+        }
+        return delegate.fromMessage(message);
+    }
+
+    private static boolean isBinary(MessageProperties messageProperties) {
+        return messageProperties != null && WorkflowEventCodec.CONTENT_TYPE.equals(messageProperties.getContentType());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.validation.constraints.NotNull;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+/**
+ * A WorkflowEventObserver is notified about each {@link WorkflowEvent} that enters the {@link WorkflowEventPipeline}, before any
+ * coalescing, and only for committed engine transactions. Observers are called on the propagating thread and must not block.
+ *
+ * @author Heiko Scherrer
+ */
+public interface WorkflowEventObserver {
+
+    /**
+     * Notified about a propagated event.
+     *
+     * @param event The event
+     */
+    void onEvent(@NotNull WorkflowEvent event);
+}
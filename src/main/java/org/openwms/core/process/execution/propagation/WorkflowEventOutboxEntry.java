@@ -0,0 +1,104 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.openwms.core.process.execution.api.WorkflowActivity;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A WorkflowEventOutboxEntry is a {@link WorkflowEvent} that has been stored within the engine transaction and is waiting to be
+ * relayed to the broker.
+ *
+ * @author Heiko Scherrer
+ */
+@Entity
+@Table(name = "TMS_RSRV_WF_EVENT_OUTBOX", indexes = @Index(name = "IDX_WF_OUTBOX_CLAIM", columnList = "C_CLAIMED_UNTIL"))
+class WorkflowEventOutboxEntry {
+
+    /** Technical key, defines the order of delivery. */
+    @Id
+    @GeneratedValue
+    @Column(name = "C_PK")
+    private Long pk;
+    /** When the entry has been written. */
+    @Column(name = "C_CREATED", nullable = false)
+    private Instant created;
+    /** The type of event. */
+    @Column(name = "C_EVENT_TYPE", nullable = false)
+    private String eventType;
+    @Column(name = "C_EXECUTION_ID")
+    private String executionId;
+    @Column(name = "C_PROCESS_DEFINITION_ID")
+    private String processDefinitionId;
+    @Column(name = "C_PROCESS_INSTANCE_ID")
+    private String processInstanceId;
+    @Column(name = "C_PROCESS_DEFINITION_KEY")
+    private String processDefinitionKey;
+    @Column(name = "C_BUSINESS_KEY")
+    private String businessKey;
+    @Column(name = "C_ACTIVITY_ID")
+    private String activityId;
+    @Column(name = "C_OCCURRED_AT")
+    private Instant occurredAt;
+    /** The activities of a snapshot event. */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "C_ACTIVITIES")
+    private List<WorkflowActivity> activities;
+    /** The relay that has claimed the entry. */
+    @Column(name = "C_CLAIMED_BY")
+    private String claimedBy;
+    /** Until when the claim is valid. */
+    @Column(name = "C_CLAIMED_UNTIL")
+    private Instant claimedUntil;
+
+    protected WorkflowEventOutboxEntry() {}
+
+    WorkflowEventOutboxEntry(WorkflowEvent event) {
+        this.created = Instant.now();
+        this.eventType = event.getEventType();
+        this.executionId = event.getExecutionId();
+        this.processDefinitionId = event.getProcessDefinitionId();
+        this.processInstanceId = event.getProcessInstanceId();
+        this.processDefinitionKey = event.getProcessDefinitionKey();
+        this.businessKey = event.getBusinessKey();
+        this.activityId = event.getActivityId();
+        this.occurredAt = event.getOccurredAt();
+        this.activities = event.getActivities();
+    }
+
+    Long getPk() {
+        return pk;
+    }
+
+    WorkflowEvent toEvent() {
+        var event = new WorkflowEvent(eventType, executionId, processDefinitionId, processInstanceId, processDefinitionKey, businessKey);
+        event.setActivityId(activityId);
+        event.setOccurredAt(occurredAt);
+        event.setActivities(activities);
+        return event;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.ameba.app.SpringProfiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A WorkflowEventOutboxRelay periodically claims a batch of committed outbox entries, sends them to the broker and deletes them
+ * once the broker has confirmed the batch.
+ * <p>
+ * Claiming is done with a conditional update, so that several relays (one per service instance) work on disjoint sets of entries
+ * without locking each other. Entries of a relay that died are claimed by others after the claim has timed out. Each message
+ * carries the outbox key as AMQP message ID, consumers use it to drop the rare duplicates caused by a relay that died between
+ * sending and deleting.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@ConditionalOnProperty(name = "owms.process.execution.events.delivery", havingValue = "OUTBOX")
+@Component
+class WorkflowEventOutboxRelay implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventOutboxRelay.class);
+    private final String owner = UUID.randomUUID().toString();
+    private final WorkflowEventOutboxRepository repository;
+    private final ConfirmingAmqpSender sender;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final PropagationProperties.Outbox settings;
+    private volatile ScheduledFuture<?> scheduledFuture;
+
+    WorkflowEventOutboxRelay(WorkflowEventOutboxRepository repository, ConfirmingAmqpSender sender, TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager, PropagationProperties properties) {
+        this.repository = repository;
+        this.sender = sender;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getOutbox();
+    }
+
+    void relay() {
+        try {
+            List<WorkflowEventOutboxEntry> claimed;
+            do {
+                claimed = transactionTemplate.execute(status -> claim());
+                if (claimed == null || claimed.isEmpty()) {
+                    return;
+                }
+                var events = claimed.stream().map(WorkflowEventOutboxEntry::toEvent).toList();
+                var messageIds = claimed.stream().map(e -> String.valueOf(e.getPk())).toList();
+                if (!sender.send(events, messageIds)) {
+                    // Keep the entries, they are claimed again once the claim has timed out
+                    return;
+                }
+                var pks = claimed.stream().map(WorkflowEventOutboxEntry::getPk).toList();
+                transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdInBatch(pks));
+            } while (claimed.size() == settings.getBatchSize());
+        } catch (RuntimeException e) {
+            LOGGER.error("Relaying WorkflowEvents from the outbox failed: [{}]", e.getMessage(), e);
+        }
+    }
+
+    private List<WorkflowEventOutboxEntry> claim() {
+        var now = Instant.now();
+        var page = PageRequest.of(0, settings.getBatchSize());
+        var candidates = repository.findClaimable(now, page);
+        if (!candidates.isEmpty()) {
+            repository.claim(candidates, owner, now.plus(settings.getClaimTimeout()), now);
+        }
+        return repository.findByClaimedByAndClaimedUntilAfterOrderByPk(owner, now, page);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        scheduledFuture = taskScheduler.scheduleWithFixedDelay(this::relay, settings.getPollInterval());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            scheduledFuture = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return scheduledFuture != null;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A WorkflowEventOutboxRepository.
+ *
+ * @author Heiko Scherrer
+ */
+interface WorkflowEventOutboxRepository extends JpaRepository<WorkflowEventOutboxEntry, Long> {
+
+    @Query("select e.pk from WorkflowEventOutboxEntry e where e.claimedUntil is null or e.claimedUntil < :now order by e.pk")
+    List<Long> findClaimable(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Claim the given entries unless another relay has claimed them in the meantime. Competing relays skip entries that are already
+     * claimed instead of waiting for each other.
+     */
+    @Modifying
+    @Query("update WorkflowEventOutboxEntry e set e.claimedBy = :owner, e.claimedUntil = :until " +
+            "where e.pk in :pks and (e.claimedUntil is null or e.claimedUntil < :now)")
+    int claim(@Param("pks") Collection<Long> pks, @Param("owner") String owner, @Param("until") Instant until, @Param("now") Instant now);
+
+    List<WorkflowEventOutboxEntry> findByClaimedByAndClaimedUntilAfterOrderByPk(String claimedBy, Instant now, Pageable pageable);
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.validation.constraints.NotNull;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A WorkflowEventPipeline is the single entry point for the engine specific propagators. It passes each {@link WorkflowEvent}
+ * through the optional {@link WorkflowEventCoalescer} and hands it over to the {@link WorkflowEventPublisher}. Without coalescing
+ * every event is passed through as is. Local {@link WorkflowEventObserver}s see each event before it is coalesced. If the publisher
+ * takes part in the current transaction, observers are notified only after that transaction has been committed.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+public class WorkflowEventPipeline {
+
+    private final WorkflowEventPublisher publisher;
+    private final WorkflowEventCoalescer coalescer;
+    private final List<WorkflowEventObserver> observers;
+
+    WorkflowEventPipeline(WorkflowEventPublisher publisher, ObjectProvider<WorkflowEventCoalescer> coalescer,
+            ObjectProvider<WorkflowEventObserver> observers) {
+        this.publisher = publisher;
+        this.coalescer = coalescer.getIfAvailable();
+        this.observers = observers.orderedStream().toList();
+    }
+
+    /**
+     * Publish the given event.
+     *
+     * @param event The event to publish
+     */
+    public void publish(@NotNull WorkflowEvent event) {
+        if (!observers.isEmpty()) {
+            if (publisher.isTransactional() && TransactionSynchronizationManager.isSynchronizationActive()) {
+                observeAfterCommit(event);
+            } else {
+                observe(event);
+            }
+        }
+        if (coalescer == null) {
+            publisher.publish(event);
+        } else {
+            coalescer.accept(event);
+        }
+    }
+
+    private void observe(WorkflowEvent event) {
+        for (var observer : observers) {
+            observer.onEvent(event);
+        }
+    }
+
+    private void observeAfterCommit(WorkflowEvent event) {
+        @SuppressWarnings("unchecked")
+        var events = (List<WorkflowEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            var buffer = new ArrayList<WorkflowEvent>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.forEach(WorkflowEventPipeline.this::observe);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkflowEventPipeline.this);
+                }
+            });
+            events = buffer;
+        }
+        events.add(event);
+    }
+
+    /**
+     * Whether published events take part in the current transaction.
+     *
+     * @return {@literal true} if so
+     * @see WorkflowEventPublisher#isTransactional()
+     */
+    public boolean isTransactional() {
+        return publisher.isTransactional();
+    }
+}
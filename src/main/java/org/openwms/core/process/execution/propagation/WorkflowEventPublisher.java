@@ -0,0 +1,44 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import jakarta.validation.constraints.NotNull;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+/**
+ * A WorkflowEventPublisher accepts {@link WorkflowEvent}s from the engine specific propagators and takes care of their delivery.
+ * Implementations must return quickly because they are called on the engine's execution thread.
+ *
+ * @author Heiko Scherrer
+ */
+public interface WorkflowEventPublisher {
+
+    /**
+     * Publish the given event.
+     *
+     * @param event The event to publish
+     */
+    void publish(@NotNull WorkflowEvent event);
+
+    /**
+     * Whether the publisher takes part in the current transaction, i.e. published events are discarded on rollback.
+     *
+     * @return {@literal true} if so
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.ameba.app.SpringProfiles;
+import org.ameba.http.MeasuredRestController;
+import org.openwms.core.http.AbstractWebController;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * A WorkflowEventStreamController streams the propagated {@link org.openwms.core.process.execution.api.WorkflowEvent}s to HTTP
+ * clients, either as server-sent events or as newline delimited JSON.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.ASYNCHRONOUS_PROFILE)
+@MeasuredRestController
+class WorkflowEventStreamController extends AbstractWebController {
+
+    private final WorkflowEventBroadcaster broadcaster;
+    private final PropagationProperties.Stream settings;
+
+    WorkflowEventStreamController(WorkflowEventBroadcaster broadcaster, PropagationProperties properties) {
+        this.broadcaster = broadcaster;
+        this.settings = properties.getStream();
+    }
+
+    @GetMapping(value = "/workflow-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(required = false) String processDefinitionKey,
+            @RequestParam(required = false) String processInstanceId) {
+        var emitter = new SseEmitter(settings.getTimeout().toMillis());
+        subscribe(emitter, processDefinitionKey, processInstanceId, event -> emitter.send(SseEmitter.event()
+                .name(event.getEventType())
+                .data(event, MediaType.APPLICATION_JSON)));
+        return emitter;
+    }
+
+    @GetMapping(value = "/workflow-events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter streamEventsAsNdjson(@RequestParam(required = false) String processDefinitionKey,
+            @RequestParam(required = false) String processInstanceId) {
+        var emitter = new ResponseBodyEmitter(settings.getTimeout().toMillis());
+        subscribe(emitter, processDefinitionKey, processInstanceId, event -> {
+            emitter.send(event, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        });
+        return emitter;
+    }
+
+    private void subscribe(ResponseBodyEmitter emitter, String processDefinitionKey, String processInstanceId,
+            WorkflowEventBroadcaster.Sink sink) {
+        var subscription = broadcaster.subscribe(processDefinitionKey, processInstanceId, sink);
+        if (subscription == null) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Maximum number of stream subscribers reached");
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+/**
+ * A WorkflowEventType is the engine independent type of a {@link org.openwms.core.process.execution.api.WorkflowEvent}. The names
+ * are used as {@code eventType} and as part of the routing key.
+ *
+ * @author Heiko Scherrer
+ */
+public enum WorkflowEventType {
+
+    PROCESS_STARTED(true),
+    PROCESS_COMPLETED(true),
+    PROCESS_CANCELLED(true),
+    PROCESS_COMPLETED_WITH_ERROR_END_EVENT(true),
+    ACTIVITY_STARTED(false),
+    ACTIVITY_COMPLETED(false),
+    JOB_EXECUTION_SUCCESS(false),
+    JOB_CANCELED(false),
+    JOB_EXECUTION_FAILURE(false),
+    /** A coalesced snapshot of the activities a process instance has visited, see {@link WorkflowEventCoalescer}. */
+    PROCESS_SNAPSHOT(false);
+
+    private final boolean processLevel;
+
+    WorkflowEventType(boolean processLevel) {
+        this.processLevel = processLevel;
+    }
+
+    /**
+     * Whether the event type signals a change of the lifecycle of the whole process instance.
+     *
+     * @return {@literal true} for process level events
+     */
+    public boolean isProcessLevel() {
+        return processLevel;
+    }
+
+    long mask() {
+        return 1L << ordinal();
+    }
+}
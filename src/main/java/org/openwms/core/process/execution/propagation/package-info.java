@@ -0,0 +1,4 @@
+/**
+ * This package contains the propagation of {@link org.openwms.core.process.execution.api.WorkflowEvent}s to interested parties.
+ */
+package org.openwms.core.process.execution.propagation;
@@ -19,9 +19,20 @@ import jakarta.validation.constraints.NotBlank;
 import org.openwms.core.process.execution.ProgramResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
 
 /**
  * A AbstractExecutor.
@@ -31,6 +42,21 @@ import java.util.Optional;
 public abstract class AbstractExecutor<T> implements ProgramExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractExecutor.class);
+    private final ProcessDefinitionCache processDefinitionCache;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+    private final Executor asyncExecutor;
+
+    protected AbstractExecutor(ProcessDefinitionCache processDefinitionCache, TransactionOperations transactionOperations, int chunkSize,
+            Executor asyncExecutor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size of batch executions must be greater than 0");
+        }
+        this.processDefinitionCache = processDefinitionCache;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+        this.asyncExecutor = asyncExecutor;
+    }
 
     /**
      * {@inheritDoc}
@@ -40,15 +66,147 @@ public abstract class AbstractExecutor<T> implements ProgramExecutor {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Executing process : [{}]", processName);
         }
-        var processDefinition = loadProcessDefinition(processName);
+        // Resolved in the caller's thread, so that an unknown process still fails the call
+        var processDefinition = resolveProcessDefinition(processName);
+        dispatch(() -> startWithRetry(processName, processDefinition, runtimeVariables, (definition, variables) -> {
+            executeProcessDefinition(definition, variables);
+            return null;
+        }));
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ProgramResult> executeAsync(@NotBlank String processName, Map<String, Object> runtimeVariables) {
+        try {
+            return CompletableFuture.supplyAsync(() -> new ProgramResult(startWithRetry(processName,
+                    resolveProcessDefinition(processName), runtimeVariables, this::startProcessInstance)), asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Execution of process [{}] rejected: [{}]", processName, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <R> R startWithRetry(String processName, T processDefinition, Map<String, Object> runtimeVariables,
+            BiFunction<T, Map<String, Object>, R> starter) {
+        try {
+            return starter.apply(processDefinition, runtimeVariables);
+        } catch (RuntimeException e) {
+            if (!isStaleProcessDefinition(e)) {
+                throw e;
+            }
+            // The cached definition may have been suspended or superseded in the meantime, so retry once with a fresh one
+            processDefinitionCache.evict(processName);
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                // The engine has joined the caller's transaction and marked it rollback-only, a retry in it can't succeed
+                throw e;
+            }
+            var reloaded = resolveProcessDefinition(processName);
+            if (Objects.equals(getProcessDefinitionId(reloaded), getProcessDefinitionId(processDefinition))) {
+                throw e;
+            }
+            LOGGER.info("Process definition of [{}] has changed, retry with [{}]", processName, getProcessDefinitionId(reloaded));
+            return starter.apply(reloaded, runtimeVariables);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ExecutionResult> executeAll(List<ExecutionRequest> requests) {
+        var results = new ArrayList<ExecutionResult>(requests.size());
+        for (var from = 0; from < requests.size(); from += chunkSize) {
+            results.addAll(executeChunk(requests.subList(from, Math.min(from + chunkSize, requests.size()))));
+        }
+        return results;
+    }
+
+    private List<ExecutionResult> executeChunk(List<ExecutionRequest> chunk) {
+        var results = new ExecutionResult[chunk.size()];
+        var definitions = new HashMap<String, T>();
+        var startable = new ArrayList<Integer>(chunk.size());
+        for (var i = 0; i < chunk.size(); i++) {
+            var request = chunk.get(i);
+            try {
+                definitions.computeIfAbsent(request.processName(), this::resolveProcessDefinition);
+                startable.add(i);
+            } catch (RuntimeException e) {
+                results[i] = ExecutionResult.failed(request, e);
+            }
+        }
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                for (var i : startable) {
+                    var request = chunk.get(i);
+                    startProcessInstance(definitions.get(request.processName()), request.runtimeVariables());
+                }
+            });
+            startable.forEach(i -> results[i] = ExecutionResult.started(chunk.get(i)));
+        } catch (RuntimeException e) {
+            // Within the caller's transaction, the failed chunk has marked it rollback-only and single starts can't succeed
+            if (startable.size() > 1 && !TransactionSynchronizationManager.isActualTransactionActive()) {
+                LOGGER.warn("Starting a chunk of [{}] process instances failed, falling back to single starts: [{}]", startable.size(),
+                        e.getMessage());
+                startable.forEach(i -> results[i] = executeSingle(chunk.get(i), definitions.get(chunk.get(i).processName())));
+            } else {
+                startable.forEach(i -> results[i] = ExecutionResult.failed(chunk.get(i), e));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private ExecutionResult executeSingle(ExecutionRequest request, T processDefinition) {
+        try {
+            transactionOperations.executeWithoutResult(status -> startProcessInstance(processDefinition, request.runtimeVariables()));
+            return ExecutionResult.started(request);
+        } catch (RuntimeException e) {
+            return ExecutionResult.failed(request, e);
+        }
+    }
+
+    private T resolveProcessDefinition(String processName) {
+        T processDefinition = processDefinitionCache.get(processName, this::loadProcessDefinition);
         if (null == processDefinition) {
             throw new IllegalStateException("No active process with name [%s] found".formatted(processName));
         }
-        executeProcessDefinition(processDefinition, runtimeVariables);
-        return Optional.empty();
+        return processDefinition;
     }
 
     protected abstract T loadProcessDefinition(String processName);
 
+    /**
+     * Check whether the given exception, thrown when starting a process instance, signals that the process definition does not
+     * exist anymore or has been suspended. Only then the cached definition is evicted and the start is retried.
+     *
+     * @param e The exception thrown by the engine
+     * @return {@literal true} if the process definition is stale
+     */
+    protected abstract boolean isStaleProcessDefinition(RuntimeException e);
+
+    protected abstract String getProcessDefinitionId(T processDefinition);
+
     protected abstract void executeProcessDefinition(T processDefinition, Map<String, Object> runtimeVariables);
+
+    /**
+     * Run the start of a process instance requested with {@link #execute(String, Map)}, including the retry with a reloaded process
+     * definition. The default implementation runs it in the caller's thread.
+     *
+     * @param start The start to run
+     */
+    protected void dispatch(Runnable start) {
+        start.run();
+    }
+
+    /**
+     * Start a process instance within the caller's thread and transaction. Used for batch executions where the start must be part
+     * of the surrounding transaction and for asynchronous executions that complete when the instance has been started.
+     *
+     * @param processDefinition The process definition to start an instance of
+     * @param runtimeVariables A map of input values, passed to the program
+     * @return The ID of the started process instance
+     */
+    protected abstract String startProcessInstance(T processDefinition, Map<String, Object> runtimeVariables);
 }
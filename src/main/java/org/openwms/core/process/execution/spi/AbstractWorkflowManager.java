@@ -0,0 +1,462 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.ameba.annotation.Measured;
+import org.ameba.exception.NotFoundException;
+import org.ameba.exception.TechnicalRuntimeException;
+import org.openwms.core.process.execution.api.WorkflowDefinition;
+import org.openwms.core.process.execution.api.WorkflowDefinitionSummary;
+import org.openwms.core.process.execution.events.WorkflowDefinitionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A AbstractWorkflowManager implements the engine independent part of managing workflow definitions. A new version is only
+ * deployed if its normalized content hash differs from the latest version, unchanged models return the existing version. BPMN
+ * resources are read through the {@link BpmnResourceCache} and listings are paged by the engine.
+ *
+ * @author Heiko Scherrer
+ */
+public abstract class AbstractWorkflowManager implements WorkflowFinder, WorkflowUpdater {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractWorkflowManager.class);
+    private final ApplicationEventPublisher publisher;
+    private final BpmnResourceCache resourceCache;
+    private final DefinitionHashes definitionHashes;
+    /** Deployed resources never change, so their deployment time and hash are remembered per deployment and resource. */
+    private final Map<String, ResourceInfo> resourceInfos = Collections.synchronizedMap(new LinkedHashMap<String, ResourceInfo>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ResourceInfo> eldest) {
+            return size() > 1000;
+        }
+    });
+
+    private record ResourceInfo(Instant deploymentTime, String contentHash) {
+    }
+
+    /**
+     * A DeployedDefinition is the engine independent view on a deployed process definition version.
+     *
+     * @param pKey The engine's ID of the version
+     * @param key The process definition key
+     * @param name The name of the process
+     * @param version The version
+     * @param deploymentId The ID of the deployment the version belongs to
+     * @param resourceName The name of the BPMN resource within the deployment
+     */
+    protected record DeployedDefinition(String pKey, String key, String name, int version, String deploymentId, String resourceName) {
+    }
+
+    protected AbstractWorkflowManager(ApplicationEventPublisher publisher, BpmnResourceCache resourceCache,
+            DefinitionHashes definitionHashes) {
+        this.publisher = publisher;
+        this.resourceCache = resourceCache;
+        this.definitionHashes = definitionHashes;
+    }
+
+    /**
+     * The properties the latest versions of process definitions can be ordered by.
+     */
+    protected enum SortProperty {
+        /** The process definition key, exposed as {@code id}. */
+        KEY,
+        /** The name of the process. */
+        NAME,
+        /** The version. */
+        VERSION,
+        /** The engine's ID of the version, exposed as {@code pKey}. */
+        ID
+    }
+
+    /**
+     * A LatestVersions is an engine query on the latest versions of process definitions.
+     */
+    protected interface LatestVersions {
+
+        /**
+         * Restrict the query to the process definition with the given key.
+         *
+         * @param workflowDefinitionKey The process definition key
+         * @return This query
+         */
+        LatestVersions processDefinitionKey(String workflowDefinitionKey);
+
+        /**
+         * Add an order to the query.
+         *
+         * @param property The property to order by
+         * @param ascending The direction
+         * @return This query
+         */
+        LatestVersions orderBy(SortProperty property, boolean ascending);
+
+        /**
+         * Execute the query.
+         *
+         * @return The only result or {@literal null} if none exists
+         */
+        DeployedDefinition singleResult();
+
+        /**
+         * Execute the query.
+         *
+         * @return All results
+         */
+        List<DeployedDefinition> list();
+
+        /**
+         * Execute the query for a page of results.
+         *
+         * @param firstResult The index of the first result
+         * @param maxResults The maximum number of results
+         * @return The results of the page
+         */
+        List<DeployedDefinition> listPage(int firstResult, int maxResults);
+
+        /**
+         * Execute the query and count the results.
+         *
+         * @return The number of results
+         */
+        long count();
+    }
+
+    /**
+     * Create a new query on the latest versions of all process definitions.
+     *
+     * @return The query
+     */
+    protected abstract LatestVersions latestVersions();
+
+    /**
+     * Open a deployed resource.
+     *
+     * @param deploymentId The ID of the deployment
+     * @param resourceName The name of the resource within the deployment
+     * @return A new stream, the caller is responsible to close it
+     */
+    protected abstract InputStream openResource(String deploymentId, String resourceName);
+
+    /**
+     * Return when a deployment has been deployed.
+     *
+     * @param deploymentId The ID of the deployment
+     * @return The deployment time or {@literal null} if unknown
+     */
+    protected abstract Instant getDeploymentTime(String deploymentId);
+
+    /**
+     * Deploy the given resources as one deployment.
+     *
+     * @param deploymentName An optional name of the deployment
+     * @param resources The streams to deploy, mapped by resource name, are closed by the caller
+     * @return All process definition versions created by the deployment
+     */
+    protected abstract List<DeployedDefinition> deploy(String deploymentName, Map<String, InputStream> resources);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotBlank String loadProcessFile(@NotBlank String workflowDefinitionKey) {
+        return loadProcessResource(workflowDefinitionKey).xml();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull BpmnResource loadProcessResource(@NotBlank String workflowDefinitionKey) {
+        var location = locateLatest(workflowDefinitionKey);
+        return resourceCache.get(location.deploymentId(), location.resourceName(),
+                () -> openResource(location.deploymentId(), location.resourceName()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull InputStream openProcessFile(@NotBlank String workflowDefinitionKey) {
+        var location = locateLatest(workflowDefinitionKey);
+        return openResource(location.deploymentId(), location.resourceName());
+    }
+
+    private BpmnResourceCache.Location locateLatest(String workflowDefinitionKey) {
+        var location = resourceCache.locateLatest(workflowDefinitionKey, key -> {
+            var latest = findLatest(key);
+            return latest == null ? null : new BpmnResourceCache.Location(latest.deploymentId(), latest.resourceName());
+        });
+        if (location == null) {
+            throw new NotFoundException("WorkflowDefinition with key [%s] not found".formatted(workflowDefinitionKey));
+        }
+        return location;
+    }
+
+    private DeployedDefinition findLatest(String workflowDefinitionKey) {
+        return latestVersions().processDefinitionKey(workflowDefinitionKey).singleResult();
+    }
+
+    /**
+     * Find a page of the latest versions of all process definitions.
+     *
+     * @param pageable The page to find, supported sort properties are {@code id}, {@code name}, {@code version} and {@code pKey}
+     * @return The page content
+     * @throws IllegalArgumentException if a sort property is not supported
+     */
+    private List<DeployedDefinition> findLatest(Pageable pageable) {
+        var query = latestVersions();
+        if (pageable.getSort().isUnsorted()) {
+            query.orderBy(SortProperty.KEY, true);
+        }
+        for (var order : pageable.getSort()) {
+            query.orderBy(toSortProperty(order.getProperty()), order.isAscending());
+        }
+        return pageable.isPaged()
+                ? query.listPage((int) pageable.getOffset(), pageable.getPageSize())
+                : query.list();
+    }
+
+    private static SortProperty toSortProperty(String property) {
+        return switch (property) {
+            case "id" -> SortProperty.KEY;
+            case "name" -> SortProperty.NAME;
+            case "version" -> SortProperty.VERSION;
+            case "pKey" -> SortProperty.ID;
+            default -> throw new IllegalArgumentException("Sorting by [%s] is not supported".formatted(property));
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull List<WorkflowDefinition> findAll() {
+        return findLatest(Pageable.unpaged()).stream().map(this::toWorkflowDefinition).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull Page<WorkflowDefinitionSummary> findSummaries(@NotNull Pageable pageable) {
+        return PageableExecutionUtils.getPage(findLatest(pageable).stream().map(this::toSummary).toList(), pageable,
+                () -> latestVersions().count());
+    }
+
+    private WorkflowDefinitionSummary toSummary(DeployedDefinition definition) {
+        var key = definition.deploymentId() + "/" + definition.resourceName();
+        var info = resourceInfos.get(key);
+        if (info == null) {
+            info = new ResourceInfo(getDeploymentTime(definition.deploymentId()), hashOf(definition));
+            resourceInfos.put(key, info);
+        }
+        return new WorkflowDefinitionSummary(definition.pKey(), definition.key(), definition.name(), definition.version(),
+                info.deploymentTime(), info.contentHash());
+    }
+
+    private String hashOf(DeployedDefinition definition) {
+        return definitionHashes.get(definition.key(), definition.version(), definition.pKey(),
+                () -> openResource(definition.deploymentId(), definition.resourceName()));
+    }
+
+    private WorkflowDefinition toWorkflowDefinition(DeployedDefinition definition) {
+        var builder = WorkflowDefinition.Builder.aWorkflowDefinition()
+                .withPKey(definition.pKey())
+                .withId(definition.key())
+                .withName(definition.name());
+        try {
+            builder.withBpmnXml(resourceCache.get(definition.deploymentId(), definition.resourceName(),
+                    () -> openResource(definition.deploymentId(), definition.resourceName())).xml());
+        } catch (TechnicalRuntimeException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return builder.build();
+    }
+
+    private static String resourceName(String workflowDefinitionKey, DeployedDefinition current) {
+        return current == null ? workflowDefinitionKey + ".bpmn20.xml" : current.resourceName();
+    }
+
+    /**
+     * Check the BPMN before it is deployed, a deployment without the expected process would remain in the engine.
+     */
+    private static void requireProcess(String workflowDefinitionKey, InputStream bpmn) {
+        if (!BpmnProcessKeys.read(bpmn).contains(workflowDefinitionKey)) {
+            throw new NotFoundException("The BPMN does not define a process with key [%s]".formatted(workflowDefinitionKey));
+        }
+    }
+
+    private DeployedDefinition deployOne(String workflowDefinitionKey, String resourceName, InputStream is, String contentHash) {
+        var deployed = deploy(null, Map.of(resourceName, is)).stream()
+                .filter(d -> workflowDefinitionKey.equals(d.key()))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("The deployed BPMN does not define a process with key [%s]"
+                        .formatted(workflowDefinitionKey)));
+        definitionHashes.record(deployed.key(), deployed.version(), deployed.pKey(), contentHash);
+        publisher.publishEvent(new WorkflowDefinitionEvent(workflowDefinitionKey, WorkflowDefinitionEvent.EventType.DEPLOYED));
+        return deployed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull WorkflowDefinition save(@NotNull WorkflowDefinition workflowDefinition) {
+        var current = findLatest(workflowDefinition.getId());
+        var bpmn = workflowDefinition.getBpmnXml().getBytes(StandardCharsets.UTF_8);
+        var contentHash = ResourceDigest.normalizedSha256(bpmn);
+        if (current != null && contentHash.equals(hashOf(current))) {
+            LOGGER.debug("BPMN of [{}] is unchanged, version [{}] is kept", current.key(), current.version());
+            return toWorkflowDefinition(current);
+        }
+        requireProcess(workflowDefinition.getId(), new ByteArrayInputStream(bpmn));
+        return toWorkflowDefinition(deployOne(workflowDefinition.getId(), resourceName(workflowDefinition.getId(), current),
+                new ByteArrayInputStream(bpmn), contentHash));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull WorkflowDefinitionSummary deploy(@NotBlank String workflowDefinitionKey, @NotNull InputStream bpmn) {
+        var current = findLatest(workflowDefinitionKey);
+        try (var spooled = SpooledResource.spool(bpmn)) {
+            if (current != null && spooled.getContentHash().equals(hashOf(current))) {
+                LOGGER.debug("BPMN of [{}] is unchanged, version [{}] is kept", current.key(), current.version());
+                return toSummary(current);
+            }
+            try (var is = spooled.open()) {
+                requireProcess(workflowDefinitionKey, is);
+            }
+            try (var is = spooled.open()) {
+                return toSummary(deployOne(workflowDefinitionKey, resourceName(workflowDefinitionKey, current), is,
+                        spooled.getContentHash()));
+            }
+        } catch (IOException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    public @NotNull List<WorkflowDefinitionSummary> deployAll(@NotNull List<SpooledResource> resources) {
+        var keysByResource = new LinkedHashMap<String, List<String>>();
+        var changed = new ArrayList<SpooledResource>();
+        var hashes = new HashMap<String, String>();
+        for (var resource : resources) {
+            var name = resource.getName();
+            if (name == null || !(name.endsWith(".bpmn20.xml") || name.endsWith(".bpmn"))) {
+                throw new IllegalArgumentException("Resource name [%s] must end with .bpmn20.xml or .bpmn".formatted(name));
+            }
+            var known = hashes.putIfAbsent(name, resource.getContentHash());
+            if (known != null) {
+                if (!known.equals(resource.getContentHash())) {
+                    throw new IllegalArgumentException("Resource [%s] is given more than once with different content".formatted(name));
+                }
+                continue;
+            }
+            var keys = readProcessKeys(resource);
+            keysByResource.put(name, keys);
+            if (!isUnchanged(keys, resource.getContentHash())) {
+                changed.add(resource);
+            }
+        }
+        if (!changed.isEmpty()) {
+            deployTogether(changed, hashes);
+        }
+        var allKeys = new LinkedHashSet<String>();
+        keysByResource.values().forEach(allKeys::addAll);
+        return allKeys.stream().map(key -> toSummary(findLatest(key))).toList();
+    }
+
+    private static List<String> readProcessKeys(SpooledResource resource) {
+        try (var is = resource.open()) {
+            var keys = BpmnProcessKeys.read(is);
+            if (keys.isEmpty()) {
+                throw new IllegalArgumentException("Resource [%s] does not define any process".formatted(resource.getName()));
+            }
+            return keys;
+        } catch (IOException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private boolean isUnchanged(List<String> keys, String contentHash) {
+        for (var key : keys) {
+            var current = findLatest(key);
+            if (current == null || !contentHash.equals(hashOf(current))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deployTogether(List<SpooledResource> resources, Map<String, String> hashes) {
+        var streams = new LinkedHashMap<String, InputStream>(resources.size());
+        try {
+            for (var resource : resources) {
+                streams.put(resource.getName(), resource.open());
+            }
+            var deployed = deploy("bulk-" + UUID.randomUUID(), streams);
+            definitionHashes.recordAll(deployed.stream()
+                    .map(d -> new DefinitionHashes.Version(d.key(), d.version(), d.pKey(), hashes.get(d.resourceName())))
+                    .toList());
+            deployed.forEach(d -> publisher.publishEvent(new WorkflowDefinitionEvent(d.key(), WorkflowDefinitionEvent.EventType.DEPLOYED)));
+            LOGGER.debug("Deployed [{}] resources with [{}] processes", resources.size(), deployed.size());
+        } catch (IOException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        } finally {
+            for (var is : streams.values()) {
+                try {
+                    is.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Could not close spooled resource: [{}]", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A BpmnProcessKeys reads the keys of the processes a BPMN resource defines, with a streaming parser and without resolving DTDs or
+ * external entities.
+ *
+ * @author Heiko Scherrer
+ */
+public final class BpmnProcessKeys {
+
+    private static final String BPMN_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private BpmnProcessKeys() {
+    }
+
+    /**
+     * Read the IDs of all {@code process} elements, which are the process definition keys.
+     *
+     * @param is The BPMN, not closed
+     * @return The keys in document order
+     * @throws IllegalArgumentException if the resource is not well-formed XML
+     */
+    public static List<String> read(InputStream is) {
+        var keys = new ArrayList<String>();
+        try {
+            var reader = FACTORY.createXMLStreamReader(is);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && "process".equals(reader.getLocalName())
+                            && BPMN_NAMESPACE.equals(reader.getNamespaceURI())) {
+                        var id = reader.getAttributeValue(null, "id");
+                        if (id != null) {
+                            keys.add(id);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("BPMN resource is not well-formed: " + e.getMessage(), e);
+        }
+        return keys;
+    }
+}
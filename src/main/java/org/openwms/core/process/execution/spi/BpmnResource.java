@@ -0,0 +1,33 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A BpmnResource is the decoded BPMN of a deployed process definition resource together with its content hash.
+ *
+ * @param deploymentId The ID of the deployment the resource belongs to
+ * @param resourceName The name of the resource within the deployment
+ * @param xml The BPMN
+ * @param contentHash The SHA-256 hash of the resource bytes, hex encoded
+ * @param size The size of the resource in bytes
+ * @author Heiko Scherrer
+ */
+public record BpmnResource(@NotBlank String deploymentId, @NotBlank String resourceName, @NotNull String xml,
+        @NotBlank String contentHash, int size) {
+}
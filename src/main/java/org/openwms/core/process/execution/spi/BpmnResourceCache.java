@@ -0,0 +1,178 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ameba.exception.TechnicalRuntimeException;
+import org.openwms.core.process.execution.events.WorkflowDefinitionEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A BpmnResourceCache holds decoded BPMN resources keyed by deployment and resource name. A deployed resource never changes, so
+ * entries are only evicted in least recently used order once the total size of all cached resources exceeds the configured
+ * maximum. Additionally, the location of the latest resource per process key is remembered until a {@link WorkflowDefinitionEvent}
+ * signals a change or the time-to-live has elapsed, so that repeated reads do not query the engine at all.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+public class BpmnResourceCache {
+
+    private static final String CACHE_NAME = "bpmnResources";
+    private final long maxBytes;
+    private final long timeToLiveNanos;
+    private final LinkedHashMap<String, BpmnResource> resources = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Latest> latest = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private long totalBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * A ResourceLoader opens a deployed resource from the engine.
+     */
+    @FunctionalInterface
+    public interface ResourceLoader {
+
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A Location identifies a deployed resource.
+     *
+     * @param deploymentId The ID of the deployment
+     * @param resourceName The name of the resource within the deployment
+     */
+    public record Location(String deploymentId, String resourceName) {
+    }
+
+    private record Latest(Location location, long loadedAt) {
+    }
+
+    BpmnResourceCache(@Value("${owms.process.execution.bpmn-cache.max-size:32MB}") DataSize maxSize,
+            @Value("${owms.process.execution.definition-cache.ttl:PT10M}") Duration timeToLive, MeterRegistry meterRegistry) {
+        this.maxBytes = maxSize.toBytes();
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", this, BpmnResourceCache::entries).tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("owms.process.execution.bpmn-cache.bytes", this, BpmnResourceCache::bytes)
+                .description("Total size of all cached BPMN resources")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached resource or load it with the {@code loader}.
+     *
+     * @param deploymentId The ID of the deployment
+     * @param resourceName The name of the resource within the deployment
+     * @param loader Opens the resource in case it is not cached
+     * @return The resource
+     */
+    public BpmnResource get(String deploymentId, String resourceName, ResourceLoader loader) {
+        var key = deploymentId + "/" + resourceName;
+        synchronized (resources) {
+            var cached = resources.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        byte[] bytes;
+        try (var is = loader.open()) {
+            bytes = is.readAllBytes();
+        } catch (IOException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+        var resource = new BpmnResource(deploymentId, resourceName, new String(bytes, StandardCharsets.UTF_8),
+                ResourceDigest.sha256(bytes), bytes.length);
+        if (resource.size() <= maxBytes) {
+            synchronized (resources) {
+                var previous = resources.put(key, resource);
+                totalBytes += resource.size() - (previous == null ? 0 : previous.size());
+                var it = resources.values().iterator();
+                while (totalBytes > maxBytes && it.hasNext()) {
+                    totalBytes -= it.next().size();
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Return the location of the latest resource of a process definition, without asking the engine if it is known.
+     *
+     * @param processKey The key of the process definition
+     * @param locator Resolves the location of the latest resource from the engine, may return {@literal null}
+     * @return The location or {@literal null} if the locator could not resolve one
+     */
+    public Location locateLatest(String processKey, Function<String, Location> locator) {
+        var now = System.nanoTime();
+        var entry = latest.get(processKey);
+        if (entry != null && now - entry.loadedAt() < timeToLiveNanos) {
+            return entry.location();
+        }
+        var currentGeneration = generation.get();
+        var location = locator.apply(processKey);
+        if (location == null) {
+            latest.remove(processKey);
+            return null;
+        }
+        if (currentGeneration == generation.get()) {
+            // Only remember when no deployment happened while resolving, otherwise we might remember a stale location
+            latest.put(processKey, new Latest(location, now));
+        }
+        return location;
+    }
+
+    @EventListener
+    public void onEvent(WorkflowDefinitionEvent event) {
+        generation.incrementAndGet();
+        latest.remove(event.getProcessKey());
+    }
+
+    private long entries() {
+        synchronized (resources) {
+            return resources.size();
+        }
+    }
+
+    private long bytes() {
+        synchronized (resources) {
+            return totalBytes;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import org.ameba.exception.TechnicalRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A DefinitionHashes knows the normalized content hash of each deployed process definition version. Hashes of versions deployed
+ * through this service are recorded at deployment time, hashes of other versions are calculated from the resource on first access
+ * and recorded then.
+ *
+ * @author Heiko Scherrer
+ * @see ResourceDigest#normalizedSha256(java.io.InputStream)
+ */
+@Component
+public class DefinitionHashes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefinitionHashes.class);
+    private final DefinitionVersionHashRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    DefinitionHashes(DefinitionVersionHashRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Return the hash of a process definition version, calculate and record it if it is not known yet.
+     *
+     * @param processKey The key of the process definition
+     * @param version The version of the process definition
+     * @param processDefinitionId The engine's ID of the version
+     * @param loader Opens the BPMN resource of the version in case the hash is not known
+     * @return The hex encoded, normalized hash
+     */
+    public String get(String processKey, int version, String processDefinitionId, BpmnResourceCache.ResourceLoader loader) {
+        var known = repository.findByProcessDefinitionId(processDefinitionId);
+        if (known.isPresent()) {
+            return known.get().getContentHash();
+        }
+        String hash;
+        try (var is = loader.open()) {
+            hash = ResourceDigest.normalizedSha256(is);
+        } catch (IOException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+        record(processKey, version, processDefinitionId, hash);
+        return hash;
+    }
+
+    /**
+     * A Version identifies a process definition version and its hash.
+     *
+     * @param processKey The key of the process definition
+     * @param version The version of the process definition
+     * @param processDefinitionId The engine's ID of the version
+     * @param contentHash The hex encoded, normalized hash
+     */
+    public record Version(String processKey, int version, String processDefinitionId, String contentHash) {
+    }
+
+    /**
+     * Record the hashes of many newly deployed process definition versions within one transaction.
+     *
+     * @param versions The versions to record
+     */
+    public void recordAll(List<Version> versions) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(versions.stream()
+                    .map(v -> new DefinitionVersionHash(v.processKey(), v.version(), v.processDefinitionId(), v.contentHash()))
+                    .toList()));
+        } catch (DataIntegrityViolationException e) {
+            versions.forEach(v -> record(v.processKey(), v.version(), v.processDefinitionId(), v.contentHash()));
+        }
+    }
+
+    /**
+     * Record the hash of a newly deployed process definition version.
+     *
+     * @param processKey The key of the process definition
+     * @param version The version of the process definition
+     * @param processDefinitionId The engine's ID of the version
+     * @param contentHash The hex encoded, normalized hash
+     */
+    public void record(String processKey, int version, String processDefinitionId, String contentHash) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    repository.save(new DefinitionVersionHash(processKey, version, processDefinitionId, contentHash)));
+        } catch (DataIntegrityViolationException e) {
+            // Recorded concurrently, the hash of a version never changes
+            LOGGER.debug("Hash of process definition [{}] has already been recorded", processDefinitionId);
+        }
+    }
+}
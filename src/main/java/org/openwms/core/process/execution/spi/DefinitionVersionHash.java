@@ -0,0 +1,69 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.Instant;
+
+/**
+ * A DefinitionVersionHash records the normalized content hash of one version of a process definition, so that versions can be
+ * compared and redundant deployments detected without reading the BPMN.
+ *
+ * @author Heiko Scherrer
+ */
+@Entity
+@Table(name = "TMS_RSRV_WF_DEF_HASH",
+        uniqueConstraints = @UniqueConstraint(name = "UC_WF_DEF_HASH_PD", columnNames = "C_PROCESS_DEFINITION_ID"),
+        indexes = @Index(name = "IDX_WF_DEF_HASH_KEY", columnList = "C_PROCESS_KEY, C_VERSION"))
+class DefinitionVersionHash {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "C_PK")
+    private Long pk;
+    @Column(name = "C_PROCESS_KEY", nullable = false)
+    private String processKey;
+    @Column(name = "C_VERSION", nullable = false)
+    private int version;
+    @Column(name = "C_PROCESS_DEFINITION_ID", nullable = false)
+    private String processDefinitionId;
+    /** The normalized SHA-256 hash of the BPMN resource, hex encoded. */
+    @Column(name = "C_CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+    @Column(name = "C_CREATED", nullable = false)
+    private Instant created;
+
+    protected DefinitionVersionHash() {}
+
+    DefinitionVersionHash(String processKey, int version, String processDefinitionId, String contentHash) {
+        this.processKey = processKey;
+        this.version = version;
+        this.processDefinitionId = processDefinitionId;
+        this.contentHash = contentHash;
+        this.created = Instant.now();
+    }
+
+    String getContentHash() {
+        return contentHash;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+/**
+ * A ExecutionRequest is one item of a batch execution and carries the name of the process to start along with its input.
+ *
+ * @param processName The name of the process (workflow) to execute
+ * @param runtimeVariables A map of input values, passed to the program
+ * @author Heiko Scherrer
+ */
+public record ExecutionRequest(@NotBlank String processName, Map<String, Object> runtimeVariables) {
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+/**
+ * A ExecutionResult is the outcome of a single {@link ExecutionRequest} within a batch execution.
+ *
+ * @param request The request this result belongs to
+ * @param status Whether the process instance has been started or not
+ * @param error The reason of a failure, {@literal null} if the instance has been started
+ * @author Heiko Scherrer
+ */
+public record ExecutionResult(ExecutionRequest request, Status status, String error) {
+
+    public static ExecutionResult started(ExecutionRequest request) {
+        return new ExecutionResult(request, Status.STARTED, null);
+    }
+
+    public static ExecutionResult failed(ExecutionRequest request, Exception cause) {
+        return new ExecutionResult(request, Status.FAILED, cause.getMessage());
+    }
+
+    public boolean isStarted() {
+        return status == Status.STARTED;
+    }
+
+    public enum Status {
+        STARTED,
+        FAILED;
+    }
+}
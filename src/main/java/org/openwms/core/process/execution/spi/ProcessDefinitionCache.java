@@ -0,0 +1,125 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openwms.core.process.execution.events.WorkflowDefinitionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A ProcessDefinitionCache holds the resolved process definition per process key, so that starting a workflow does not require a
+ * query against the engine's repository each time. Entries are evicted when a {@link WorkflowDefinitionEvent} signals a change of
+ * the definition, or after the configured time-to-live in order to pick up deployments that were made outside of this service.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+public class ProcessDefinitionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionCache.class);
+    private static final String CACHE_NAME = "processDefinitions";
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long timeToLiveNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    ProcessDefinitionCache(@Value("${owms.process.execution.definition-cache.ttl:PT10M}") Duration timeToLive, MeterRegistry meterRegistry) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", entries, Map::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    /**
+     * Return the cached process definition for the given {@code processKey} or resolve it with the {@code loader} in case it is not
+     * cached or the cached entry has expired.
+     *
+     * @param processKey The key of the process definition
+     * @param loader Resolves the process definition from the engine, may return {@literal null}
+     * @param <T> The engine specific type of process definition
+     * @return The process definition or {@literal null} if the loader could not resolve one
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String processKey, Function<String, T> loader) {
+        var now = System.nanoTime();
+        var entry = entries.get(processKey);
+        if (entry != null) {
+            if (now - entry.loadedAt < timeToLiveNanos) {
+                hits.increment();
+                return (T) entry.definition;
+            }
+            if (entries.remove(processKey, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        var currentGeneration = generation.get();
+        var definition = loader.apply(processKey);
+        if (definition != null && currentGeneration == generation.get()) {
+            // Only cache when no eviction happened while loading, otherwise we might put back a stale definition
+            entries.put(processKey, new Entry(definition, now));
+        }
+        return definition;
+    }
+
+    /**
+     * Evict the cached process definition for the given {@code processKey}.
+     *
+     * @param processKey The key of the process definition
+     */
+    public void evict(String processKey) {
+        generation.incrementAndGet();
+        if (entries.remove(processKey) != null) {
+            evictions.increment();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Evicted process definition [{}] from cache", processKey);
+            }
+        }
+    }
+
+    /**
+     * Evict all cached process definitions.
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        var size = entries.size();
+        entries.clear();
+        evictions.increment(size);
+    }
+
+    @EventListener
+    public void onEvent(WorkflowDefinitionEvent event) {
+        evict(event.getProcessKey());
+    }
+
+    private record Entry(Object definition, long loadedAt) {
+    }
+}
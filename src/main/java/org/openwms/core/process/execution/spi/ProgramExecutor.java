@@ -18,8 +18,10 @@ package org.openwms.core.process.execution.spi;
 import jakarta.validation.constraints.NotBlank;
 import org.openwms.core.process.execution.ProgramResult;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A ProgramExecutor is responsible for the execution of material flow programs.
@@ -36,4 +38,25 @@ public interface ProgramExecutor {
      * @return The program result
      */
     Optional<ProgramResult> execute(@NotBlank String processName, Map<String, Object> runtimeVariables);
+
+    /**
+     * Execute the Action asynchronously on a bounded executor. When the executor is saturated the configured
+     * {@link org.openwms.core.process.execution.ExecutionRejectionPolicy} applies.
+     *
+     * @param processName The name of the process (workflow) to execute
+     * @param runtimeVariables A map of input values, passed to the program
+     * @return A future that completes with the program result as soon as the process instance has been started, or completes
+     * exceptionally if the start failed or has been rejected. The result carries the ID of the started process instance
+     */
+    CompletableFuture<ProgramResult> executeAsync(@NotBlank String processName, Map<String, Object> runtimeVariables);
+
+    /**
+     * Execute a batch of programs. The requests are grouped into chunks and all process instances of a chunk are started within
+     * one transaction. If a chunk fails, its requests are executed one by one to determine the failing ones. Within an active
+     * transaction of the caller the chunks join that transaction, and all requests of a failed chunk fail.
+     *
+     * @param requests The requests to execute
+     * @return One result per request, in the same order as the given requests
+     */
+    List<ExecutionResult> executeAll(List<ExecutionRequest> requests);
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import org.ameba.exception.TechnicalRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * A ResourceDigest calculates content hashes of BPMN resources. The normalized hash ignores differences that editors and version
+ * control systems introduce without changing the model: a leading byte order mark, {@code CRLF} or {@code CR} line endings,
+ * trailing whitespace on each line and trailing empty lines.
+ *
+ * @author Heiko Scherrer
+ */
+public final class ResourceDigest {
+
+    private ResourceDigest() {
+    }
+
+    /**
+     * Calculate the SHA-256 hash of the given stream without holding the content in memory.
+     *
+     * @param is The stream to read, not closed
+     * @return The hex encoded hash
+     * @throws IOException if reading fails
+     */
+    public static String sha256(InputStream is) throws IOException {
+        var digest = newDigest();
+        var buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Calculate the SHA-256 hash of the given bytes.
+     *
+     * @param bytes The content
+     * @return The hex encoded hash
+     */
+    public static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+
+    /**
+     * Calculate the normalized SHA-256 hash of the given stream without holding the content in memory.
+     *
+     * @param is The stream to read, not closed
+     * @return The hex encoded hash
+     * @throws IOException if reading fails
+     */
+    public static String normalizedSha256(InputStream is) throws IOException {
+        var normalizer = new Normalizer();
+        var buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            normalizer.update(buffer, 0, read);
+        }
+        return normalizer.finish();
+    }
+
+    /**
+     * Calculate the normalized SHA-256 hash of the given bytes.
+     *
+     * @param bytes The content
+     * @return The hex encoded hash
+     */
+    public static String normalizedSha256(byte[] bytes) {
+        var normalizer = new Normalizer();
+        normalizer.update(bytes, 0, bytes.length);
+        return normalizer.finish();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Feeds the normalized content into the digest. Whitespace and line breaks are held back until it is known whether they are
+     * followed by content; all of them are ASCII, so this works on UTF-8 bytes directly. Pending whitespace is kept as runs of
+     * equal characters, so a long run does not need a buffer of its size.
+     */
+    static final class Normalizer {
+
+        private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        private final MessageDigest digest = newDigest();
+        private static final byte[] SPACES = " ".repeat(64).getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] TABS = "\t".repeat(64).getBytes(StandardCharsets.US_ASCII);
+        /** Lengths of the pending whitespace runs, positive for spaces and negative for tabs. */
+        private long[] runs = new long[8];
+        private int runCount;
+        private int newlineCount;
+        private long position;
+        private boolean carriageReturn;
+
+        void update(byte[] bytes, int offset, int length) {
+            for (var i = offset; i < offset + length; i++) {
+                var b = bytes[i];
+                if (position < BOM.length && b == BOM[(int) position]) {
+                    position++;
+                    continue;
+                }
+                position = Long.MAX_VALUE;
+                if (b == '\r') {
+                    newline();
+                    carriageReturn = true;
+                    continue;
+                }
+                if (b == '\n') {
+                    if (!carriageReturn) {
+                        newline();
+                    }
+                    carriageReturn = false;
+                    continue;
+                }
+                carriageReturn = false;
+                if (b == ' ' || b == '\t') {
+                    whitespace(b == ' ' ? 1 : -1);
+                    continue;
+                }
+                for (; newlineCount > 0; newlineCount--) {
+                    digest.update((byte) '\n');
+                }
+                flushWhitespace();
+                digest.update(b);
+            }
+        }
+
+        private void whitespace(int unit) {
+            if (runCount > 0 && Long.signum(runs[runCount - 1]) == unit) {
+                runs[runCount - 1] += unit;
+                return;
+            }
+            if (runCount == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[runCount++] = unit;
+        }
+
+        private void newline() {
+            runCount = 0;
+            newlineCount++;
+        }
+
+        private void flushWhitespace() {
+            for (var i = 0; i < runCount; i++) {
+                var chars = runs[i] > 0 ? SPACES : TABS;
+                for (var remaining = Math.abs(runs[i]); remaining > 0; remaining -= chars.length) {
+                    digest.update(chars, 0, (int) Math.min(remaining, chars.length));
+                }
+            }
+            runCount = 0;
+        }
+
+        String finish() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
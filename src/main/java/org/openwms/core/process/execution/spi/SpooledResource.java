@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A SpooledResource is an uploaded BPMN resource that has been copied to a temporary file while its normalized hash was calculated,
+ * so that it can be compared before it is deployed without holding it in memory. Closing it deletes the file.
+ *
+ * @author Heiko Scherrer
+ */
+public final class SpooledResource implements AutoCloseable {
+
+    private final String name;
+    private final Path file;
+    private final String contentHash;
+
+    private SpooledResource(String name, Path file, String contentHash) {
+        this.name = name;
+        this.file = file;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Copy the given stream to a temporary file.
+     *
+     * @param is The stream to read, not closed
+     * @return The spooled resource
+     * @throws IOException if reading or writing fails
+     */
+    public static SpooledResource spool(InputStream is) throws IOException {
+        return spool(null, is);
+    }
+
+    /**
+     * Copy the given stream to a temporary file.
+     *
+     * @param name The name of the resource, e.g. the file name of an upload
+     * @param is The stream to read, not closed
+     * @return The spooled resource
+     * @throws IOException if reading or writing fails
+     */
+    public static SpooledResource spool(String name, InputStream is) throws IOException {
+        var file = Files.createTempFile("bpmn-", ".xml");
+        var normalizer = new ResourceDigest.Normalizer();
+        try (var out = Files.newOutputStream(file)) {
+            var buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                normalizer.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new SpooledResource(name, file, normalizer.finish());
+    }
+
+    /**
+     * Return the name of the resource.
+     *
+     * @return The name or {@literal null} if not given
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Return the normalized hash of the content.
+     *
+     * @return The hex encoded hash
+     * @see ResourceDigest#normalizedSha256(InputStream)
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Open the content.
+     *
+     * @return A new stream, the caller is responsible to close it
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream open() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
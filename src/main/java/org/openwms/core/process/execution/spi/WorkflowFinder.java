@@ -18,7 +18,11 @@ package org.openwms.core.process.execution.spi;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.openwms.core.process.execution.api.WorkflowDefinition;
+import org.openwms.core.process.execution.api.WorkflowDefinitionSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -37,9 +41,36 @@ public interface WorkflowFinder {
     @NotBlank String loadProcessFile(@NotBlank String workflowDefinitionKey);
 
     /**
-     * Find and return all {@link WorkflowDefinition}s.
+     * Find and return the BPMN resource of the latest version of a {@link WorkflowDefinition} together with its content hash.
+     *
+     * @param workflowDefinitionKey The unique key of the WorkflowDefinition
+     * @return The BPMN resource
+     * @throws org.ameba.exception.NotFoundException if no such WorkflowDefinition exists
+     */
+    @NotNull BpmnResource loadProcessResource(@NotBlank String workflowDefinitionKey);
+
+    /**
+     * Open the BPMN resource of the latest version of a {@link WorkflowDefinition} as a stream, without decoding it into a String.
+     *
+     * @param workflowDefinitionKey The unique key of the WorkflowDefinition
+     * @return The stream, the caller is responsible to close it
+     * @throws org.ameba.exception.NotFoundException if no such WorkflowDefinition exists
+     */
+    @NotNull InputStream openProcessFile(@NotBlank String workflowDefinitionKey);
+
+    /**
+     * Find and return all {@link WorkflowDefinition}s including their BPMN. Prefer {@link #findSummaries(Pageable)} for listings.
      *
      * @return As a list
      */
     @NotNull List<WorkflowDefinition> findAll();
+
+    /**
+     * Find and return a page of summaries of the latest version of all {@link WorkflowDefinition}s, without loading their BPMN.
+     * Supported sort properties are {@code id}, {@code name}, {@code version} and {@code pKey}.
+     *
+     * @param pageable The requested page and sort order
+     * @return The page of summaries
+     */
+    @NotNull Page<WorkflowDefinitionSummary> findSummaries(@NotNull Pageable pageable);
 }
@@ -15,8 +15,13 @@
  */
 package org.openwms.core.process.execution.spi;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.openwms.core.process.execution.api.WorkflowDefinition;
+import org.openwms.core.process.execution.api.WorkflowDefinitionSummary;
+
+import java.io.InputStream;
+import java.util.List;
 
 /**
  * A WorkflowUpdater can modify Workflows.
@@ -26,10 +31,33 @@ import org.openwms.core.process.execution.api.WorkflowDefinition;
 public interface WorkflowUpdater {
 
     /**
-     * Save an existing {@link WorkflowDefinition}.
+     * Save an existing {@link WorkflowDefinition}. Implementations must publish a
+     * {@link org.openwms.core.process.execution.events.WorkflowDefinitionEvent} after the new version has been deployed. If the
+     * BPMN equals the latest version, no new version is deployed and the latest version is returned.
      *
      * @param workflowDefinition The instance to update
      * @return The updated instance
      */
     @NotNull WorkflowDefinition save(@NotNull WorkflowDefinition workflowDefinition);
+
+    /**
+     * Deploy a new version of a {@link WorkflowDefinition} read from the given stream, without materializing the BPMN as a String.
+     * Implementations must publish a {@link org.openwms.core.process.execution.events.WorkflowDefinitionEvent} after the new
+     * version has been deployed. If the BPMN equals the latest version, no new version is deployed.
+     *
+     * @param workflowDefinitionKey The unique key of the WorkflowDefinition
+     * @param bpmn The BPMN, not closed by the implementation
+     * @return The summary of the deployed version
+     */
+    @NotNull WorkflowDefinitionSummary deploy(@NotBlank String workflowDefinitionKey, @NotNull InputStream bpmn);
+
+    /**
+     * Deploy many BPMN resources as one deployment. Resources whose processes are all unchanged compared to their latest version,
+     * as well as duplicates within the given resources, are not deployed again. Implementations must publish a
+     * {@link org.openwms.core.process.execution.events.WorkflowDefinitionEvent} for each process that got a new version.
+     *
+     * @param resources The BPMN resources, each with a unique name
+     * @return The summaries of the latest version of all processes defined by the resources, in the order of the resources
+     */
+    @NotNull List<WorkflowDefinitionSummary> deployAll(@NotNull List<SpooledResource> resources);
 }
@@ -15,72 +15,133 @@
  */
 package org.openwms.core.process.execution.spi.activiti;
 
-import org.activiti.engine.ProcessEngine;
+import org.activiti.engine.delegate.event.ActivitiActivityEvent;
+import org.activiti.engine.delegate.event.ActivitiEntityEvent;
 import org.activiti.engine.delegate.event.ActivitiEvent;
-import org.activiti.engine.delegate.event.ActivitiEventListener;
-import org.ameba.annotation.Measured;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.runtime.ProcessInstance;
 import org.ameba.app.SpringProfiles;
 import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.propagation.BusinessKeyCache;
+import org.openwms.core.process.execution.propagation.TransactionBoundEventBuffer;
+import org.openwms.core.process.execution.propagation.WorkflowEventFilter;
+import org.openwms.core.process.execution.propagation.WorkflowEventPipeline;
+import org.openwms.core.process.execution.propagation.WorkflowEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.core.AmqpTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Set;
+
 /**
- * A ActivitiAmqpEventPropagator is receiving Activiti workflow execution events and sends out {@link WorkflowEvent}s over AMQP.
+ * A ActivitiAmqpEventPropagator is receiving Activiti workflow execution events and sends out {@link WorkflowEvent}s over AMQP by
+ * handing them over to the {@link WorkflowEventPipeline} and from there to the
+ * {@link org.openwms.core.process.execution.propagation.WorkflowEventPublisher}. Events are collected in the
+ * {@link TransactionBoundEventBuffer} until the engine's transaction has been committed.
+ * <p>
+ * Events are checked against the {@link WorkflowEventFilter} before anything else is done. The forwarding path does not query the
+ * engine. All data is taken from the event itself, only the business key of a process instance is remembered from its start event
+ * in the bounded {@link BusinessKeyCache} until the instance ends.
  *
  * @author Heiko Scherrer
  */
 @Profile("ACTIVITI && " + SpringProfiles.ASYNCHRONOUS_PROFILE)
 @Component
-class ActivitiAmqpEventPropagator implements ActivitiEventListener {
+class ActivitiAmqpEventPropagator implements TypedActivitiEventListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger("AMQP_EVENTS");
-    private final String exchangeName;
-    private final AmqpTemplate amqpTemplate;
-    private final ProcessEngine processEngine;
+    private final WorkflowEventFilter filter;
+    private final TransactionBoundEventBuffer buffer;
+    private final BusinessKeyCache businessKeys;
+
+    ActivitiAmqpEventPropagator(WorkflowEventFilter filter, TransactionBoundEventBuffer buffer, BusinessKeyCache businessKeys) {
+        this.filter = filter;
+        this.buffer = buffer;
+        this.businessKeys = businessKeys;
+    }
 
-    ActivitiAmqpEventPropagator(@Value("${owms.process.execution.amqp.exchange-name}") String exchangeName, AmqpTemplate amqpTemplate, ProcessEngine processEngine) {
-        this.exchangeName = exchangeName;
-        this.amqpTemplate = amqpTemplate;
-        this.processEngine = processEngine;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<ActivitiEventType> getEventTypes() {
+        return Set.of(ActivitiEventType.ACTIVITY_STARTED, ActivitiEventType.ACTIVITY_COMPLETED,
+                ActivitiEventType.PROCESS_STARTED, ActivitiEventType.PROCESS_COMPLETED, ActivitiEventType.PROCESS_CANCELLED,
+                ActivitiEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT,
+                ActivitiEventType.JOB_EXECUTION_SUCCESS, ActivitiEventType.JOB_CANCELED, ActivitiEventType.JOB_EXECUTION_FAILURE);
     }
 
     /**
      * {@inheritDoc}
      */
-    @Measured
     @Override
     public void onEvent(ActivitiEvent event) {
-        switch (event.getType()) {
-            case ACTIVITY_STARTED, ACTIVITY_COMPLETED,
-                 PROCESS_STARTED, PROCESS_COMPLETED, PROCESS_CANCELLED, PROCESS_COMPLETED_WITH_ERROR_END_EVENT,
-                 JOB_EXECUTION_SUCCESS, JOB_CANCELED, JOB_EXECUTION_FAILURE:
-                if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Event: [{}, {}, {}, {}]", event.getType(), event.getExecutionId(), event.getProcessDefinitionId(),
-                            event.getProcessInstanceId());
+        var type = toWorkflowEventType(event.getType());
+        if (type == null || !filter.accept(type, event.getProcessDefinitionId())) {
+            return;
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Event: [{}, {}, {}, {}]", event.getType(), event.getExecutionId(), event.getProcessDefinitionId(),
+                    event.getProcessInstanceId());
+        }
+        var businessKey = resolveBusinessKey(event);
+        var workflowEvent = new WorkflowEvent(type.name(),
+                event.getExecutionId(),
+                event.getProcessDefinitionId(),
+                event.getProcessInstanceId(),
+                toProcessDefinitionKey(event.getProcessDefinitionId()),
+                businessKey);
+        if (event instanceof ActivitiActivityEvent activityEvent) {
+            workflowEvent.setActivityId(activityEvent.getActivityId());
+        }
+        workflowEvent.setOccurredAt(Instant.now());
+        buffer.add(workflowEvent);
+    }
+
+    private String resolveBusinessKey(ActivitiEvent event) {
+        var processInstanceId = event.getProcessInstanceId();
+        if (processInstanceId == null) {
+            return null;
+        }
+        return switch (event.getType()) {
+            case PROCESS_STARTED -> {
+                if (event instanceof ActivitiEntityEvent entityEvent && entityEvent.getEntity() instanceof ProcessInstance pi) {
+                    businessKeys.started(processInstanceId, pi.getBusinessKey());
+                    yield pi.getBusinessKey();
                 }
-                processEngine.getHistoryService().createHistoricProcessInstanceQuery().list().forEach(pi -> {
-                    //System.out.println(pi.toString());
-                });
-                processEngine.getRuntimeService().createExecutionQuery().list().forEach(pi -> {
-                    System.out.println(pi.toString());
-                });
-                amqpTemplate.convertAndSend(exchangeName, "execution.event."+event.getType().name(), new WorkflowEvent(event.getType().name(), event.getExecutionId(),
-                        event.getProcessDefinitionId(),
-                        event.getProcessInstanceId()));
-                break;
-            default:
-                LOGGER.trace("Unhandled event received: [{}]", event.getType());
-                processEngine.getHistoryService().createHistoricProcessInstanceQuery().list().forEach(pi -> {
-                    //System.out.println(pi.toString());
-                });
-                processEngine.getRuntimeService().createExecutionQuery().list().forEach(pi -> {
-                    //System.out.println(pi.toString());
-                });
+                yield null;
+            }
+            case PROCESS_COMPLETED, PROCESS_CANCELLED, PROCESS_COMPLETED_WITH_ERROR_END_EVENT -> businessKeys.ended(processInstanceId);
+            default -> businessKeys.get(processInstanceId);
+        };
+    }
+
+    private static WorkflowEventType toWorkflowEventType(ActivitiEventType type) {
+        return switch (type) {
+            case PROCESS_STARTED -> WorkflowEventType.PROCESS_STARTED;
+            case PROCESS_COMPLETED -> WorkflowEventType.PROCESS_COMPLETED;
+            case PROCESS_CANCELLED -> WorkflowEventType.PROCESS_CANCELLED;
+            case PROCESS_COMPLETED_WITH_ERROR_END_EVENT -> WorkflowEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT;
+            case ACTIVITY_STARTED -> WorkflowEventType.ACTIVITY_STARTED;
+            case ACTIVITY_COMPLETED -> WorkflowEventType.ACTIVITY_COMPLETED;
+            case JOB_EXECUTION_SUCCESS -> WorkflowEventType.JOB_EXECUTION_SUCCESS;
+            case JOB_CANCELED -> WorkflowEventType.JOB_CANCELED;
+            case JOB_EXECUTION_FAILURE -> WorkflowEventType.JOB_EXECUTION_FAILURE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Activiti process definition IDs are of the form {@code key:version:id}.
+     */
+    static String toProcessDefinitionKey(String processDefinitionId) {
+        if (processDefinitionId == null) {
+            return null;
         }
+        var idx = processDefinitionId.indexOf(':');
+        return idx < 0 ? processDefinitionId : processDefinitionId.substring(0, idx);
     }
 
     /**
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.activiti;
+
+import org.activiti.engine.delegate.event.ActivitiEntityEvent;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.activiti.engine.repository.ProcessDefinition;
+import org.openwms.core.process.execution.events.WorkflowDefinitionEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * A ActivitiDefinitionStateObserver translates the suspension and activation of Activiti process definitions into
+ * {@link WorkflowDefinitionEvent}s.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("ACTIVITI")
+@Component
+class ActivitiDefinitionStateObserver implements TypedActivitiEventListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    ActivitiDefinitionStateObserver(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<ActivitiEventType> getEventTypes() {
+        return Set.of(ActivitiEventType.ENTITY_SUSPENDED, ActivitiEventType.ENTITY_ACTIVATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(ActivitiEvent event) {
+        if (event instanceof ActivitiEntityEvent entityEvent && entityEvent.getEntity() instanceof ProcessDefinition pd) {
+            publisher.publishEvent(new WorkflowDefinitionEvent(pd.getKey(),
+                    event.getType() == ActivitiEventType.ENTITY_SUSPENDED
+                            ? WorkflowDefinitionEvent.EventType.SUSPENDED
+                            : WorkflowDefinitionEvent.EventType.ACTIVATED));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+}
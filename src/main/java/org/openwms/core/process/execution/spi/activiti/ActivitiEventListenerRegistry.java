@@ -0,0 +1,121 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.activiti;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventListener;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ameba.LoggingCategories.BOOT;
+
+/**
+ * A ActivitiEventListenerRegistry registers all {@link ActivitiEventListener} beans exactly once with the engine's event dispatcher
+ * after the engine has been bootstrapped. Listeners that implement {@link TypedActivitiEventListener} are only subscribed to the
+ * declared event types and process definitions.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("ACTIVITI")
+@Component
+class ActivitiEventListenerRegistry {
+
+    private static final Logger BOOT_LOGGER = LoggerFactory.getLogger(BOOT);
+    private final RuntimeService runtimeService;
+    private final List<ActivitiEventListener> eventListeners;
+    private final Map<ActivitiEventListener, ActivitiEventListener> registered = new IdentityHashMap<>();
+
+    ActivitiEventListenerRegistry(RuntimeService runtimeService, @Autowired(required = false) List<ActivitiEventListener> eventListeners) {
+        this.runtimeService = runtimeService;
+        this.eventListeners = eventListeners == null ? List.of() : eventListeners;
+    }
+
+    @PostConstruct
+    void registerAll() {
+        eventListeners.forEach(this::register);
+    }
+
+    @PreDestroy
+    synchronized void unregisterAll() {
+        registered.values().forEach(runtimeService::removeEventListener);
+        registered.clear();
+    }
+
+    /**
+     * Register the given {@code eventListener} with the engine, unless it has already been registered.
+     *
+     * @param eventListener The listener to register
+     */
+    synchronized void register(ActivitiEventListener eventListener) {
+        if (registered.containsKey(eventListener)) {
+            return;
+        }
+        var effective = eventListener;
+        var types = new ActivitiEventType[0];
+        if (eventListener instanceof TypedActivitiEventListener typed) {
+            types = typed.getEventTypes().toArray(types);
+            if (!typed.getProcessDefinitionKeys().isEmpty()) {
+                effective = new ProcessDefinitionKeyFilter(typed, Set.copyOf(typed.getProcessDefinitionKeys()));
+            }
+        }
+        if (types.length == 0) {
+            runtimeService.addEventListener(effective);
+        } else {
+            runtimeService.addEventListener(effective, types);
+        }
+        registered.put(eventListener, effective);
+        BOOT_LOGGER.info("-- w/ Activiti event listener [{}]", eventListener.getClass().getSimpleName());
+    }
+
+    /**
+     * Passes only events of process definitions with one of the given keys. Activiti process definition IDs are of the form
+     * {@code key:version:id}, so the key is matched without resolving the definition.
+     */
+    private record ProcessDefinitionKeyFilter(ActivitiEventListener delegate, Set<String> keys) implements ActivitiEventListener {
+
+        @Override
+        public void onEvent(ActivitiEvent event) {
+            var processDefinitionId = event.getProcessDefinitionId();
+            if (processDefinitionId == null) {
+                return;
+            }
+            for (var key : keys) {
+                if (processDefinitionId.length() > key.length() && processDefinitionId.charAt(key.length()) == ':'
+                        && processDefinitionId.startsWith(key)) {
+                    delegate.onEvent(event);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return delegate.isFailOnException();
+        }
+    }
+}
@@ -15,20 +15,26 @@
  */
 package org.openwms.core.process.execution.spi.activiti;
 
+import org.activiti.engine.ActivitiException;
+import org.activiti.engine.ActivitiObjectNotFoundException;
 import org.activiti.engine.RepositoryService;
 import org.activiti.engine.RuntimeService;
-import org.activiti.engine.delegate.event.ActivitiEventListener;
 import org.activiti.engine.repository.ProcessDefinition;
 import org.ameba.annotation.Measured;
+import org.openwms.core.process.execution.RuntimeConfiguration;
 import org.openwms.core.process.execution.spi.AbstractExecutor;
+import org.openwms.core.process.execution.spi.ProcessDefinitionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.ameba.LoggingCategories.BOOT;
 
@@ -45,14 +51,15 @@ class ActivitiExecutor extends AbstractExecutor<ProcessDefinition> {
     private final RuntimeService runtimeService;
     private final ProcessInstanceExecutor processInstanceExecutor;
     private final RepositoryService repositoryService;
-    private final List<ActivitiEventListener> eventListeners;
 
-    ActivitiExecutor(RuntimeService runtimeService, ProcessInstanceExecutor processInstanceExecutor, RepositoryService repositoryService,
-            @Autowired(required = false) List<ActivitiEventListener> eventListeners) {
+    ActivitiExecutor(ProcessDefinitionCache processDefinitionCache, PlatformTransactionManager transactionManager,
+            @Value("${owms.process.execution.batch.chunk-size:100}") int chunkSize,
+            @Qualifier(RuntimeConfiguration.PROGRAM_EXECUTOR_NAME) Executor asyncExecutor, RuntimeService runtimeService,
+            ProcessInstanceExecutor processInstanceExecutor, RepositoryService repositoryService) {
+        super(processDefinitionCache, new TransactionTemplate(transactionManager), chunkSize, asyncExecutor);
         this.runtimeService = runtimeService;
         this.processInstanceExecutor = processInstanceExecutor;
         this.repositoryService = repositoryService;
-        this.eventListeners = eventListeners;
         BOOT_LOGGER.info("-- w/ Activiti executor");
     }
 
@@ -65,17 +72,47 @@ class ActivitiExecutor extends AbstractExecutor<ProcessDefinition> {
         return repositoryService.createProcessDefinitionQuery().processDefinitionKey(processName).active().latestVersion().singleResult();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isStaleProcessDefinition(RuntimeException e) {
+        return e instanceof ActivitiObjectNotFoundException
+                || (e instanceof ActivitiException && e.getMessage() != null && e.getMessage().contains("is suspended"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getProcessDefinitionId(ProcessDefinition processDefinition) {
+        return processDefinition.getId();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Measured
     @Override
     protected void executeProcessDefinition(ProcessDefinition processDefinition, Map<String, Object> runtimeVariables) {
-        processInstanceExecutor.execute(processDefinition, runtimeVariables);
-        if (eventListeners != null) {
-            for (var eventListener : eventListeners) {
-                runtimeService.addEventListener(eventListener);
-            }
-        }
+        startProcessInstance(processDefinition, runtimeVariables);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs the start on the asynchronous {@link ProcessInstanceExecutor}.
+     */
+    @Override
+    protected void dispatch(Runnable start) {
+        processInstanceExecutor.execute(start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String startProcessInstance(ProcessDefinition processDefinition, Map<String, Object> runtimeVariables) {
+        return runtimeService.startProcessInstanceById(processDefinition.getId(), runtimeVariables).getId();
     }
 }
@@ -15,22 +15,20 @@
  */
 package org.openwms.core.process.execution.spi.activiti;
 
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import org.activiti.engine.RepositoryService;
-import org.ameba.annotation.Measured;
-import org.ameba.exception.TechnicalRuntimeException;
-import org.openwms.core.process.execution.api.WorkflowDefinition;
-import org.openwms.core.process.execution.spi.WorkflowFinder;
-import org.openwms.core.process.execution.spi.WorkflowUpdater;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.activiti.engine.repository.ProcessDefinition;
+import org.activiti.engine.repository.ProcessDefinitionQuery;
+import org.openwms.core.process.execution.spi.AbstractWorkflowManager;
+import org.openwms.core.process.execution.spi.BpmnResourceCache;
+import org.openwms.core.process.execution.spi.DefinitionHashes;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A ActivitiWorkflowManager uses Activiti to manage workflows.
@@ -39,86 +37,107 @@ import java.util.List;
  */
 @Profile("ACTIVITI")
 @Component
-class ActivitiWorkflowManager implements WorkflowFinder, WorkflowUpdater {
+class ActivitiWorkflowManager extends AbstractWorkflowManager {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ActivitiWorkflowManager.class);
     private final RepositoryService repositoryService;
 
-    ActivitiWorkflowManager(RepositoryService repositoryService) {
+    ActivitiWorkflowManager(ApplicationEventPublisher publisher, RepositoryService repositoryService, BpmnResourceCache resourceCache,
+            DefinitionHashes definitionHashes) {
+        super(publisher, resourceCache, definitionHashes);
         this.repositoryService = repositoryService;
     }
 
     /**
      * {@inheritDoc}
      */
-    @Measured
     @Override
-    public @NotBlank String loadProcessFile(@NotBlank String workflowDefinitionKey) {
-        var pd = repositoryService
-                .createProcessDefinitionQuery()
-                .processDefinitionKey(workflowDefinitionKey)
-                .latestVersion()
-                .singleResult();
-        try (var is = repositoryService.getResourceAsStream(pd.getDeploymentId(), pd.getResourceName())) {
-            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new TechnicalRuntimeException(e.getMessage(), e);
-        }
+    protected LatestVersions latestVersions() {
+        return new ActivitiLatestVersions(repositoryService.createProcessDefinitionQuery().latestVersion());
     }
 
     /**
      * {@inheritDoc}
      */
-    @Measured
     @Override
-    public @NotNull List<WorkflowDefinition> findAll() {
-        return repositoryService
-                .createProcessDefinitionQuery()
-                .latestVersion()
-                .list()
-                .stream()
-                .map(pd -> {
-                    var builder = WorkflowDefinition.Builder.aWorkflowDefinition()
-                            .withPKey(pd.getId())
-                            .withId(pd.getKey())
-                            .withName(pd.getName());
-                    try (var is = repositoryService.getResourceAsStream(pd.getDeploymentId(), pd.getResourceName())) {
-                        builder.withBpmnXml(new String(is.readAllBytes(), StandardCharsets.UTF_8));
-                    } catch (IOException e) {
-                        LOGGER.error(e.getMessage(), e);
-                    }
-                    return builder.build();
-                }).toList();
+    protected InputStream openResource(String deploymentId, String resourceName) {
+        return repositoryService.getResourceAsStream(deploymentId, resourceName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Instant getDeploymentTime(String deploymentId) {
+        var deployment = repositoryService.createDeploymentQuery().deploymentId(deploymentId).singleResult();
+        return deployment == null || deployment.getDeploymentTime() == null ? null : deployment.getDeploymentTime().toInstant();
     }
 
     /**
      * {@inheritDoc}
      */
-    @Measured
     @Override
-    public @NotNull WorkflowDefinition save(@NotNull WorkflowDefinition workflowDefinition) {
-        var activeProcessDefinition = repositoryService.createProcessDefinitionQuery()
-                .processDefinitionKey(workflowDefinition.getId())
-                .latestVersion()
-                .singleResult();
-
-        repositoryService.createDeployment().addString(activeProcessDefinition.getResourceName(),
-                workflowDefinition.getBpmnXml()).deploy();
-
-        activeProcessDefinition = repositoryService.createProcessDefinitionQuery()
-                .processDefinitionKey(workflowDefinition.getId())
-                .latestVersion()
-                .singleResult();
-        var builder = WorkflowDefinition.Builder.aWorkflowDefinition();
-        builder.withPKey(activeProcessDefinition.getId());
-        builder.withId(activeProcessDefinition.getKey());
-        builder.withName(activeProcessDefinition.getName());
-        try (var is = repositoryService.getResourceAsStream(activeProcessDefinition.getDeploymentId(),
-                activeProcessDefinition.getResourceName())) {
-            builder.withBpmnXml(new String(is.readAllBytes(), StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            LOGGER.error(e.getMessage(), e);
+    protected List<DeployedDefinition> deploy(String deploymentName, Map<String, InputStream> resources) {
+        var builder = repositoryService.createDeployment();
+        if (deploymentName != null) {
+            builder.name(deploymentName);
+        }
+        resources.forEach(builder::addInputStream);
+        var deployment = builder.deploy();
+        return repositoryService.createProcessDefinitionQuery()
+                .deploymentId(deployment.getId())
+                .list()
+                .stream()
+                .map(ActivitiWorkflowManager::toDeployedDefinition)
+                .toList();
+    }
+
+    private static DeployedDefinition toDeployedDefinition(ProcessDefinition pd) {
+        return new DeployedDefinition(pd.getId(), pd.getKey(), pd.getName(), pd.getVersion(), pd.getDeploymentId(), pd.getResourceName());
+    }
+
+    private record ActivitiLatestVersions(ProcessDefinitionQuery query) implements LatestVersions {
+
+        @Override
+        public LatestVersions processDefinitionKey(String workflowDefinitionKey) {
+            query.processDefinitionKey(workflowDefinitionKey);
+            return this;
+        }
+
+        @Override
+        public LatestVersions orderBy(SortProperty property, boolean ascending) {
+            switch (property) {
+                case KEY -> query.orderByProcessDefinitionKey();
+                case NAME -> query.orderByProcessDefinitionName();
+                case VERSION -> query.orderByProcessDefinitionVersion();
+                case ID -> query.orderByProcessDefinitionId();
+            }
+            if (ascending) {
+                query.asc();
+            } else {
+                query.desc();
+            }
+            return this;
+        }
+
+        @Override
+        public DeployedDefinition singleResult() {
+            var pd = query.singleResult();
+            return pd == null ? null : toDeployedDefinition(pd);
+        }
+
+        @Override
+        public List<DeployedDefinition> list() {
+            return query.list().stream().map(ActivitiWorkflowManager::toDeployedDefinition).toList();
+        }
+
+        @Override
+        public List<DeployedDefinition> listPage(int firstResult, int maxResults) {
+            return query.listPage(firstResult, maxResults).stream().map(ActivitiWorkflowManager::toDeployedDefinition).toList();
+        }
+
+        @Override
+        public long count() {
+            return query.count();
         }
-        return builder.build();
     }
 }
@@ -15,16 +15,13 @@
  */
 package org.openwms.core.process.execution.spi.activiti;
 
-import org.activiti.engine.ProcessEngine;
-import org.activiti.engine.repository.ProcessDefinition;
+import org.openwms.core.process.execution.RuntimeConfiguration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 /**
- * A ProcessInstanceExecutor.
+ * A ProcessInstanceExecutor runs the start of process instances on the program execution executor.
  *
  * @author Heiko Scherrer
  */
@@ -32,14 +29,8 @@ import java.util.Map;
 @Component
 class ProcessInstanceExecutor {
 
-    private final ProcessEngine processEngine;
-
-    ProcessInstanceExecutor(ProcessEngine processEngine) {
-        this.processEngine = processEngine;
-    }
-
-    @Async
-    public void execute(ProcessDefinition processDefinition, Map<String, Object> runtimeVariables) {
-        processEngine.getRuntimeService().startProcessInstanceById(processDefinition.getId(), runtimeVariables);
+    @Async(RuntimeConfiguration.PROGRAM_EXECUTOR_NAME)
+    public void execute(Runnable start) {
+        start.run();
     }
 }
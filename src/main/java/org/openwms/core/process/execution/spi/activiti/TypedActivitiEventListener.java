@@ -0,0 +1,48 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.activiti;
+
+import org.activiti.engine.delegate.event.ActivitiEventListener;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+
+import java.util.Set;
+
+/**
+ * A TypedActivitiEventListener is an {@link ActivitiEventListener} that declares which events it is interested in. The
+ * {@link ActivitiEventListenerRegistry} only dispatches matching events to it.
+ *
+ * @author Heiko Scherrer
+ */
+interface TypedActivitiEventListener extends ActivitiEventListener {
+
+    /**
+     * The types of events to receive.
+     *
+     * @return An empty set means all types
+     */
+    default Set<ActivitiEventType> getEventTypes() {
+        return Set.of();
+    }
+
+    /**
+     * The keys of process definitions to receive events for.
+     *
+     * @return An empty set means all process definitions
+     */
+    default Set<String> getProcessDefinitionKeys() {
+        return Set.of();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.camunda;
+
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.AbstractSetProcessDefinitionStateCmd;
+import org.camunda.bpm.engine.impl.cmd.DeleteDeploymentCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandInterceptor;
+import org.openwms.core.process.execution.spi.ProcessDefinitionCache;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+
+/**
+ * A CamundaDefinitionStateObserver evicts the {@link ProcessDefinitionCache} when Camunda process definitions are suspended,
+ * activated or their deployment is deleted. Camunda does not publish an event for these changes, so the observer intercepts the
+ * engine commands. The suspension commands may address a definition by id, by key or by deployment, hence all entries are evicted.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!FLOWABLE && !ACTIVITI")
+@Component
+class CamundaDefinitionStateObserver extends AbstractProcessEnginePlugin {
+
+    private final ProcessDefinitionCache processDefinitionCache;
+
+    CamundaDefinitionStateObserver(ProcessDefinitionCache processDefinitionCache) {
+        this.processDefinitionCache = processDefinitionCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        var interceptors = processEngineConfiguration.getCustomPreCommandInterceptorsTxRequired() == null
+                ? new ArrayList<CommandInterceptor>()
+                : new ArrayList<>(processEngineConfiguration.getCustomPreCommandInterceptorsTxRequired());
+        interceptors.add(new EvictingInterceptor());
+        processEngineConfiguration.setCustomPreCommandInterceptorsTxRequired(interceptors);
+    }
+
+    private class EvictingInterceptor extends CommandInterceptor {
+
+        @Override
+        public <T> T execute(Command<T> command) {
+            var result = next.execute(command);
+            if (command instanceof AbstractSetProcessDefinitionStateCmd || command instanceof DeleteDeploymentCmd) {
+                processDefinitionCache.evictAll();
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    // A concurrent start may have cached the old state again before the change is committed
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            processDefinitionCache.evictAll();
+                        }
+                    });
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.camunda;
+
+import org.ameba.app.SpringProfiles;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+import static org.ameba.LoggingCategories.BOOT;
+
+/**
+ * A CamundaEventPropagationPlugin registers the {@link CamundaHistoryEventPropagator} as an additional history event handler
+ * with the process engine. The default database history handler stays in place.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!FLOWABLE && !ACTIVITI && " + SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+class CamundaEventPropagationPlugin extends AbstractProcessEnginePlugin {
+
+    private static final Logger BOOT_LOGGER = LoggerFactory.getLogger(BOOT);
+    private final CamundaHistoryEventPropagator propagator;
+
+    CamundaEventPropagationPlugin(CamundaHistoryEventPropagator propagator) {
+        this.propagator = propagator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        var handlers = processEngineConfiguration.getCustomHistoryEventHandlers() == null
+                ? new ArrayList<HistoryEventHandler>()
+                : new ArrayList<>(processEngineConfiguration.getCustomHistoryEventHandlers());
+        handlers.add(propagator);
+        processEngineConfiguration.setCustomHistoryEventHandlers(handlers);
+        BOOT_LOGGER.info("-- w/ Camunda event propagation");
+    }
+}
@@ -18,14 +18,24 @@ package org.openwms.core.process.execution.spi.camunda;
 import org.ameba.annotation.Measured;
 import org.camunda.bpm.engine.RepositoryService;
 import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.SuspendedEntityInteractionException;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.openwms.core.process.execution.RuntimeConfiguration;
 import org.openwms.core.process.execution.spi.AbstractExecutor;
+import org.openwms.core.process.execution.spi.ProcessDefinitionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.ameba.LoggingCategories.BOOT;
 
@@ -42,7 +52,11 @@ class CamundaExecutor extends AbstractExecutor<ProcessDefinition> {
     private final RuntimeService runtimeService;
     private final RepositoryService repositoryService;
 
-    CamundaExecutor(RuntimeService runtimeService, RepositoryService repositoryService) {
+    CamundaExecutor(ProcessDefinitionCache processDefinitionCache, PlatformTransactionManager transactionManager,
+            @Value("${owms.process.execution.batch.chunk-size:100}") int chunkSize,
+            @Qualifier(RuntimeConfiguration.PROGRAM_EXECUTOR_NAME) Executor asyncExecutor, RuntimeService runtimeService,
+            RepositoryService repositoryService) {
+        super(processDefinitionCache, new TransactionTemplate(transactionManager), chunkSize, asyncExecutor);
         this.runtimeService = runtimeService;
         this.repositoryService = repositoryService;
         BOOT_LOGGER.info("-- w/ Camunda executor");
@@ -57,6 +71,22 @@ class CamundaExecutor extends AbstractExecutor<ProcessDefinition> {
         return repositoryService.createProcessDefinitionQuery().processDefinitionKey(processName).active().latestVersion().singleResult();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isStaleProcessDefinition(RuntimeException e) {
+        return e instanceof SuspendedEntityInteractionException || e instanceof NullValueException || e instanceof NotFoundException;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getProcessDefinitionId(ProcessDefinition processDefinition) {
+        return processDefinition.getId();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -65,4 +95,13 @@ class CamundaExecutor extends AbstractExecutor<ProcessDefinition> {
     protected void executeProcessDefinition(ProcessDefinition processDefinition, Map<String, Object> runtimeVariables) {
         runtimeService.startProcessInstanceById(processDefinition.getId(), runtimeVariables);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Measured
+    @Override
+    protected String startProcessInstance(ProcessDefinition processDefinition, Map<String, Object> runtimeVariables) {
+        return runtimeService.startProcessInstanceById(processDefinition.getId(), runtimeVariables).getId();
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.camunda;
+
+import org.ameba.app.SpringProfiles;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricJobLogEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.propagation.BusinessKeyCache;
+import org.openwms.core.process.execution.propagation.TransactionBoundEventBuffer;
+import org.openwms.core.process.execution.propagation.WorkflowEventFilter;
+import org.openwms.core.process.execution.propagation.WorkflowEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A CamundaHistoryEventPropagator receives the history events produced by Camunda and propagates the process, activity and job
+ * lifecycle as {@link WorkflowEvent}s with the same event types and routing keys the Activiti propagator uses. Events are buffered
+ * per engine transaction and published after commit. Which events Camunda produces at all depends on the configured history
+ * level.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!FLOWABLE && !ACTIVITI && " + SpringProfiles.ASYNCHRONOUS_PROFILE)
+@Component
+class CamundaHistoryEventPropagator implements HistoryEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamundaHistoryEventPropagator.class);
+    private final WorkflowEventFilter filter;
+    private final TransactionBoundEventBuffer buffer;
+    private final BusinessKeyCache businessKeys;
+
+    CamundaHistoryEventPropagator(WorkflowEventFilter filter, TransactionBoundEventBuffer buffer, BusinessKeyCache businessKeys) {
+        this.filter = filter;
+        this.buffer = buffer;
+        this.businessKeys = businessKeys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleEvent(HistoryEvent historyEvent) {
+        var type = toWorkflowEventType(historyEvent);
+        if (type == null || !filter.accept(type, historyEvent.getProcessDefinitionId())) {
+            return;
+        }
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Propagating Camunda event [{}] as [{}]", historyEvent.getEventType(), type);
+        }
+        var event = new WorkflowEvent(type.name(), historyEvent.getExecutionId(), historyEvent.getProcessDefinitionId(),
+                historyEvent.getProcessInstanceId(), historyEvent.getProcessDefinitionKey(), resolveBusinessKey(type, historyEvent));
+        if (historyEvent instanceof HistoricActivityInstanceEventEntity activityEvent) {
+            event.setActivityId(activityEvent.getActivityId());
+        }
+        event.setOccurredAt(Instant.now());
+        buffer.add(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleEvents(List<HistoryEvent> historyEvents) {
+        historyEvents.forEach(this::handleEvent);
+    }
+
+    private String resolveBusinessKey(WorkflowEventType type, HistoryEvent historyEvent) {
+        var processInstanceId = historyEvent.getProcessInstanceId();
+        return switch (type) {
+            case PROCESS_STARTED -> {
+                var businessKey = ((HistoricProcessInstanceEventEntity) historyEvent).getBusinessKey();
+                businessKeys.started(processInstanceId, businessKey);
+                yield businessKey;
+            }
+            case PROCESS_COMPLETED, PROCESS_CANCELLED -> {
+                var businessKey = businessKeys.ended(processInstanceId);
+                yield businessKey != null ? businessKey : ((HistoricProcessInstanceEventEntity) historyEvent).getBusinessKey();
+            }
+            default -> businessKeys.get(processInstanceId);
+        };
+    }
+
+    static WorkflowEventType toWorkflowEventType(HistoryEvent historyEvent) {
+        if (historyEvent instanceof HistoricProcessInstanceEventEntity pi) {
+            if (pi.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_START)) {
+                return WorkflowEventType.PROCESS_STARTED;
+            }
+            if (pi.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_END)) {
+                return HistoricProcessInstance.STATE_COMPLETED.equals(pi.getState())
+                        ? WorkflowEventType.PROCESS_COMPLETED
+                        : WorkflowEventType.PROCESS_CANCELLED;
+            }
+            return null;
+        }
+        if (historyEvent instanceof HistoricActivityInstanceEventEntity) {
+            if (historyEvent.isEventOfType(HistoryEventTypes.ACTIVITY_INSTANCE_START)) {
+                return WorkflowEventType.ACTIVITY_STARTED;
+            }
+            if (historyEvent.isEventOfType(HistoryEventTypes.ACTIVITY_INSTANCE_END)) {
+                return WorkflowEventType.ACTIVITY_COMPLETED;
+            }
+            return null;
+        }
+        if (historyEvent instanceof HistoricJobLogEventEntity) {
+            if (historyEvent.isEventOfType(HistoryEventTypes.JOB_SUCCESS)) {
+                return WorkflowEventType.JOB_EXECUTION_SUCCESS;
+            }
+            if (historyEvent.isEventOfType(HistoryEventTypes.JOB_FAIL)) {
+                return WorkflowEventType.JOB_EXECUTION_FAILURE;
+            }
+            if (historyEvent.isEventOfType(HistoryEventTypes.JOB_DELETE)) {
+                return WorkflowEventType.JOB_CANCELED;
+            }
+        }
+        return null;
+    }
+}
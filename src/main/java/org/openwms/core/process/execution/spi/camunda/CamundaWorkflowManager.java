@@ -0,0 +1,140 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.camunda;
+
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
+import org.openwms.core.process.execution.spi.AbstractWorkflowManager;
+import org.openwms.core.process.execution.spi.BpmnResourceCache;
+import org.openwms.core.process.execution.spi.DefinitionHashes;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A CamundaWorkflowManager uses Camunda to manage workflows.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!FLOWABLE && !ACTIVITI")
+@Component
+class CamundaWorkflowManager extends AbstractWorkflowManager {
+
+    private final RepositoryService repositoryService;
+
+    CamundaWorkflowManager(ApplicationEventPublisher publisher, RepositoryService repositoryService, BpmnResourceCache resourceCache,
+            DefinitionHashes definitionHashes) {
+        super(publisher, resourceCache, definitionHashes);
+        this.repositoryService = repositoryService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected LatestVersions latestVersions() {
+        return new CamundaLatestVersions(repositoryService.createProcessDefinitionQuery().latestVersion());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InputStream openResource(String deploymentId, String resourceName) {
+        return repositoryService.getResourceAsStream(deploymentId, resourceName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Instant getDeploymentTime(String deploymentId) {
+        var deployment = repositoryService.createDeploymentQuery().deploymentId(deploymentId).singleResult();
+        return deployment == null || deployment.getDeploymentTime() == null ? null : deployment.getDeploymentTime().toInstant();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<DeployedDefinition> deploy(String deploymentName, Map<String, InputStream> resources) {
+        var builder = repositoryService.createDeployment();
+        if (deploymentName != null) {
+            builder.name(deploymentName);
+        }
+        resources.forEach(builder::addInputStream);
+        var deployed = builder.deployWithResult().getDeployedProcessDefinitions();
+        return deployed == null ? List.of() : deployed.stream()
+                .map(CamundaWorkflowManager::toDeployedDefinition)
+                .toList();
+    }
+
+    private static DeployedDefinition toDeployedDefinition(ProcessDefinition pd) {
+        return new DeployedDefinition(pd.getId(), pd.getKey(), pd.getName(), pd.getVersion(), pd.getDeploymentId(), pd.getResourceName());
+    }
+
+    private record CamundaLatestVersions(ProcessDefinitionQuery query) implements LatestVersions {
+
+        @Override
+        public LatestVersions processDefinitionKey(String workflowDefinitionKey) {
+            query.processDefinitionKey(workflowDefinitionKey);
+            return this;
+        }
+
+        @Override
+        public LatestVersions orderBy(SortProperty property, boolean ascending) {
+            switch (property) {
+                case KEY -> query.orderByProcessDefinitionKey();
+                case NAME -> query.orderByProcessDefinitionName();
+                case VERSION -> query.orderByProcessDefinitionVersion();
+                case ID -> query.orderByProcessDefinitionId();
+            }
+            if (ascending) {
+                query.asc();
+            } else {
+                query.desc();
+            }
+            return this;
+        }
+
+        @Override
+        public DeployedDefinition singleResult() {
+            var pd = query.singleResult();
+            return pd == null ? null : toDeployedDefinition(pd);
+        }
+
+        @Override
+        public List<DeployedDefinition> list() {
+            return query.list().stream().map(CamundaWorkflowManager::toDeployedDefinition).toList();
+        }
+
+        @Override
+        public List<DeployedDefinition> listPage(int firstResult, int maxResults) {
+            return query.listPage(firstResult, maxResults).stream().map(CamundaWorkflowManager::toDeployedDefinition).toList();
+        }
+
+        @Override
+        public long count() {
+            return query.count();
+        }
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A HashedWheelTaskScheduler is a {@link TaskScheduler} for many timers with a resolution of one tick. Scheduled tasks are put into
+ * the bucket of a timing wheel that matches their deadline, tasks further away than one revolution wait for the according number
+ * of rounds. Inserting and cancelling is O(1), a single worker thread advances the wheel tick by tick and only hands expired tasks
+ * over to the dispatch pool, so that the accuracy of ticks does not depend on how long the tasks take.
+ * <p>
+ * Tasks scheduled with a {@link Trigger} are rescheduled after they have completed, like with Spring's schedulers.
+ *
+ * @author Heiko Scherrer
+ */
+class HashedWheelTaskScheduler implements TaskScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTaskScheduler.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final Duration MAX_DELAY = Duration.ofDays(36_500);
+    private final Clock clock = Clock.systemDefaultZone();
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * Create and start a scheduler.
+     *
+     * @param tickDuration The resolution of the wheel
+     * @param wheelSize The number of buckets, rounded up to the next power of two
+     * @param dispatcher Executes the expired tasks, shut down with this scheduler
+     */
+    HashedWheelTaskScheduler(Duration tickDuration, int wheelSize, ExecutorService dispatcher) {
+        if (tickDuration.toMillis() < 1) {
+            throw new IllegalArgumentException("The tick duration must be at least one millisecond");
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("The wheel size must be between 1 and 2^30");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        var buckets = 1;
+        while (buckets < wheelSize) {
+            buckets <<= 1;
+        }
+        this.wheel = new Bucket[buckets];
+        for (var i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.dispatcher = dispatcher;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::work, "TimerWheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return new ReschedulingTask(task, trigger).schedule();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return newTimeout(task, startTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return schedule(task, periodic(period, true, Duration.between(clock.instant(), startTime)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return schedule(task, periodic(period, true, Duration.ZERO));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return schedule(task, periodic(delay, false, Duration.between(clock.instant(), startTime)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return schedule(task, periodic(delay, false, Duration.ZERO));
+    }
+
+    private static Trigger periodic(Duration period, boolean fixedRate, Duration initialDelay) {
+        var trigger = new PeriodicTrigger(period);
+        trigger.setFixedRate(fixedRate);
+        trigger.setInitialDelay(initialDelay.isNegative() ? Duration.ZERO : initialDelay);
+        return trigger;
+    }
+
+    /**
+     * Return the number of scheduled tasks that have neither expired nor been cancelled.
+     *
+     * @return The number of tasks
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Stop the wheel and the dispatch pool, tasks that have not expired yet are dropped.
+     */
+    void shutdown() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(1000);
+            dispatcher.shutdown();
+            if (!dispatcher.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timer dispatch pool did not terminate within 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timeout newTimeout(Runnable task, Instant executionTime) {
+        if (!running) {
+            throw new TaskRejectedException("HashedWheelTaskScheduler has been shut down");
+        }
+        var until = Duration.between(clock.instant(), executionTime);
+        // Anything beyond a century is treated as a century
+        var delay = Math.max(0, until.compareTo(MAX_DELAY) > 0 ? MAX_DELAY.toNanos() : until.toNanos());
+        var timeout = new Timeout(task, executionTime, System.nanoTime() - startNanos + delay);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void work() {
+        while (running) {
+            var deadline = waitForNextTick();
+            if (deadline < 0) {
+                continue;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        var deadline = tickNanos * (tick + 1);
+        while (true) {
+            var current = System.nanoTime() - startNanos;
+            var sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (var i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            var timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.INIT) {
+                continue;
+            }
+            var calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // Deadlines in the past go into the current bucket
+            wheel[(int) (Math.max(calculated, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * A Bucket is a doubly linked list of timeouts, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        Timeout remove(Timeout timeout) {
+            var next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        void expire(long deadline) {
+            var timeout = head;
+            while (timeout != null) {
+                var next = timeout.next;
+                if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    if (timeout.deadline > deadline) {
+                        throw new IllegalStateException("Timeout deadline %d is after tick deadline %d".formatted(timeout.deadline, deadline));
+                    }
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * A Timeout is a single scheduled execution of a task.
+     */
+    private final class Timeout implements ScheduledFuture<Object> {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private final Runnable task;
+        private final Instant executionTime;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(Runnable task, Instant executionTime, long deadline) {
+            this.task = task;
+            this.executionTime = executionTime;
+            this.deadline = deadline;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) {
+                return;
+            }
+            size.decrementAndGet();
+            try {
+                dispatcher.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Dispatching expired timer task rejected: [{}]", e.getMessage());
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void run() {
+            try {
+                task.run();
+                result.complete(null);
+            } catch (RuntimeException | Error e) {
+                LOGGER.error("Unexpected error in timer task: [{}]", e.getMessage(), e);
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            size.decrementAndGet();
+            cancelled.add(this);
+            result.cancel(false);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(clock.instant(), executionTime));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * A ReschedulingTask runs a task according to a {@link Trigger}, the next execution is scheduled once the previous one has
+     * completed.
+     */
+    private final class ReschedulingTask implements ScheduledFuture<Object> {
+
+        private final Runnable task;
+        private final Trigger trigger;
+        private final SimpleTriggerContext triggerContext = new SimpleTriggerContext(clock);
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final Object monitor = new Object();
+        private Timeout current;
+        private Instant scheduledExecution;
+
+        private ReschedulingTask(Runnable task, Trigger trigger) {
+            this.task = task;
+            this.trigger = trigger;
+        }
+
+        private ScheduledFuture<?> schedule() {
+            synchronized (monitor) {
+                scheduledExecution = trigger.nextExecution(triggerContext);
+                if (scheduledExecution == null) {
+                    result.complete(null);
+                    return null;
+                }
+                current = newTimeout(this::run, scheduledExecution);
+                return this;
+            }
+        }
+
+        private void run() {
+            var actualExecution = clock.instant();
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                LOGGER.error("Unexpected error in timer task: [{}]", e.getMessage(), e);
+            }
+            var completion = clock.instant();
+            synchronized (monitor) {
+                triggerContext.update(scheduledExecution, actualExecution, completion);
+                if (!result.isDone() && running) {
+                    schedule();
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (monitor) {
+                if (result.isDone()) {
+                    return false;
+                }
+                result.cancel(false);
+                current.cancel(mayInterruptIfRunning);
+                return true;
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            synchronized (monitor) {
+                return unit.convert(Duration.between(clock.instant(), scheduledExecution));
+            }
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
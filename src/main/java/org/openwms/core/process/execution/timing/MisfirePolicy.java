@@ -0,0 +1,40 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+/**
+ * A MisfirePolicy defines what happens with the occurrences of a {@link TimerConfiguration} that have been missed, e.g. because
+ * no node was running at that time.
+ * <p>
+ * Missed occurrences are detected from the last recorded fire time when the timer is scheduled. Each caught up occurrence is claimed
+ * on its own, like a regular one. Catch-up executions start after a random delay within
+ * {@literal owms.process.execution.timers.catch-up.spread}, so that timers do not all catch up at once after a restart, and the
+ * executions of one timer are separated by {@literal owms.process.execution.timers.catch-up.interval}.
+ *
+ * @author Heiko Scherrer
+ */
+public enum MisfirePolicy {
+
+    /** Missed occurrences are dropped, the timer continues with its next regular occurrence. */
+    SKIP,
+    /** All missed occurrences are caught up with one single execution. */
+    FIRE_ONCE,
+    /**
+     * Each missed occurrence is caught up with an own execution, rate limited and up to
+     * {@literal owms.process.execution.timers.catch-up.max-occurrences}.
+     */
+    FIRE_ALL;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A OccurrenceTrigger calculates the scheduled times of the occurrences of a cron expression. The scheduled time is the nominal
+ * cron time and therefore the same on all nodes, in contrast to the actual start time. The cron expression is parsed once and used
+ * for all calculations, it follows the semantics of Spring's {@code CronTrigger}.
+ *
+ * @author Heiko Scherrer
+ */
+class OccurrenceTrigger {
+
+    private final CronExpression expression;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    OccurrenceTrigger(String cronExpression) {
+        this.expression = CronExpression.parse(cronExpression);
+    }
+
+    /**
+     * Return the first occurrence after the given time.
+     *
+     * @param instant The time to start from
+     * @return The next occurrence or {@literal null} if the expression has no more occurrences
+     */
+    Instant nextAfter(Instant instant) {
+        var next = expression.next(instant.atZone(zoneId));
+        return next == null ? null : next.toInstant();
+    }
+
+    /**
+     * Return the occurrences within a time range.
+     *
+     * @param after The start of the range, exclusive
+     * @param until The end of the range, inclusive
+     * @param max The maximum number of occurrences to return
+     * @return The occurrences in ascending order, the earliest ones if there are more than {@code max}
+     */
+    List<Instant> occurrencesBetween(Instant after, Instant until, int max) {
+        var result = new ArrayList<Instant>();
+        for (var next = nextAfter(after); next != null && !next.isAfter(until) && result.size() < max; next = nextAfter(next)) {
+            result.add(next);
+        }
+        return result;
+    }
+}
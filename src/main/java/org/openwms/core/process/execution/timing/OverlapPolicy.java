@@ -0,0 +1,36 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+/**
+ * An OverlapPolicy defines what happens when a {@link TimerConfiguration} fires while its previous execution is still in flight.
+ * An execution is in flight from the start of the workflow until the end event of the process instance it has started is observed
+ * on this node. Without asynchronous event propagation, or if process end events are filtered out, only the start is tracked.
+ * <p>
+ * Timers with a policy other than {@link #ALLOW} start their workflow asynchronously. Occurrences that are not allowed to start are
+ * skipped and counted.
+ *
+ * @author Heiko Scherrer
+ */
+public enum OverlapPolicy {
+
+    /** Every occurrence starts the workflow, regardless of previous executions. */
+    ALLOW,
+    /** An occurrence is skipped as long as the previous execution is in flight. */
+    SKIP_IF_RUNNING,
+    /** At most one occurrence waits for the previous execution and starts afterwards, further occurrences are skipped. */
+    QUEUE_ONE;
+}
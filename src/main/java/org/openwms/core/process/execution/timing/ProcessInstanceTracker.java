@@ -0,0 +1,97 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.propagation.WorkflowEventObserver;
+import org.openwms.core.process.execution.propagation.WorkflowEventType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A ProcessInstanceTracker remembers the process instances started by timers and runs a callback as soon as the end event of such
+ * an instance is observed. An instance may end before its start has returned, so ended instances are remembered as long as a start
+ * is pending.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+class ProcessInstanceTracker implements WorkflowEventObserver {
+
+    private static final Set<String> END_EVENTS = Set.of(WorkflowEventType.PROCESS_COMPLETED.name(),
+            WorkflowEventType.PROCESS_CANCELLED.name(), WorkflowEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT.name());
+    private final Map<String, Runnable> running = new ConcurrentHashMap<>();
+    private final Set<String> endedEarly = new HashSet<>();
+    private int pendingStarts;
+
+    /**
+     * Announce the start of a process instance, must be followed by a call to {@link #started(String, Runnable)}.
+     */
+    synchronized void starting() {
+        pendingStarts++;
+    }
+
+    /**
+     * Track a started process instance until it ends.
+     *
+     * @param processInstanceId The ID of the started instance or {@literal null} if the start failed
+     * @param onEnd Called once when the instance has ended
+     */
+    void started(String processInstanceId, Runnable onEnd) {
+        try {
+            if (processInstanceId != null) {
+                running.put(processInstanceId, onEnd);
+                boolean ended;
+                synchronized (this) {
+                    ended = endedEarly.remove(processInstanceId);
+                }
+                if (ended && running.remove(processInstanceId, onEnd)) {
+                    onEnd.run();
+                }
+            }
+        } finally {
+            synchronized (this) {
+                if (--pendingStarts == 0) {
+                    endedEarly.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(WorkflowEvent event) {
+        var processInstanceId = event.getProcessInstanceId();
+        if (processInstanceId == null || !END_EVENTS.contains(event.getEventType())) {
+            return;
+        }
+        synchronized (this) {
+            if (pendingStarts > 0) {
+                endedEarly.add(processInstanceId);
+            }
+        }
+        var onEnd = running.remove(processInstanceId);
+        if (onEnd != null) {
+            onEnd.run();
+        }
+    }
+}
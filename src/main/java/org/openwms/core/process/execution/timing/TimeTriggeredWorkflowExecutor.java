@@ -15,23 +15,42 @@
  */
 package org.openwms.core.process.execution.timing;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import org.ameba.app.SpringProfiles;
+import org.openwms.core.process.execution.ProgramResult;
 import org.openwms.core.process.execution.spi.ProgramExecutor;
 import org.openwms.core.process.execution.timing.events.ConfigurationEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
- * A TimeTriggeredWorkflowExecutor.
+ * A TimeTriggeredWorkflowExecutor schedules the {@link TimerConfiguration}s and starts their workflow on each occurrence, coordinated
+ * within the cluster according to the {@link TimerCoordination}. Missed and overlapping occurrences are handled according to the
+ * {@link MisfirePolicy} and {@link OverlapPolicy} of each timer.
  *
  * @author Heiko Scherrer
  */
@@ -39,22 +58,56 @@ import java.util.concurrent.ScheduledFuture;
 class TimeTriggeredWorkflowExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TimeTriggeredWorkflowExecutor.class);
-    private final Map<String, ScheduledFuture<?>> scheduledFutureMap = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledTimer> scheduledFutureMap = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
     private final ProgramExecutor programExecutor;
     private final TaskScheduler taskScheduler;
     private final TimerConfigurationService timerConfigurationService;
+    private final TimerFireLocks fireLocks;
+    private final TimerCoordination coordination;
+    private final Duration catchUpSpread;
+    private final Duration catchUpInterval;
+    private final int catchUpMaxOccurrences;
+    private final ProcessInstanceTracker instanceTracker;
+    private final boolean endEventsObserved;
+    private final Map<OverlapPolicy, Counter> skipped = new EnumMap<>(OverlapPolicy.class);
+    private volatile TimerMembershipEvent membership;
 
-    TimeTriggeredWorkflowExecutor(ProgramExecutor programExecutor, TaskScheduler taskScheduler, TimerConfigurationService timerConfigurationService) {
+    TimeTriggeredWorkflowExecutor(ProgramExecutor programExecutor, TaskScheduler taskScheduler,
+            @Qualifier(TimerSchedulingConfiguration.TIMER_SCHEDULER_NAME) Optional<TaskScheduler> timerScheduler,
+            TimerConfigurationService timerConfigurationService,
+            TimerFireLocks fireLocks, @Value("${owms.process.execution.timers.coordination:NONE}") TimerCoordination coordination,
+            @Value("${owms.process.execution.timers.catch-up.spread:PT30S}") Duration catchUpSpread,
+            @Value("${owms.process.execution.timers.catch-up.interval:PT1S}") Duration catchUpInterval,
+            @Value("${owms.process.execution.timers.catch-up.max-occurrences:100}") int catchUpMaxOccurrences,
+            ProcessInstanceTracker instanceTracker, Environment environment, MeterRegistry meterRegistry) {
         this.programExecutor = programExecutor;
-        this.taskScheduler = taskScheduler;
+        this.taskScheduler = timerScheduler.orElse(taskScheduler);
         this.timerConfigurationService = timerConfigurationService;
+        this.fireLocks = fireLocks;
+        this.coordination = coordination;
+        this.catchUpSpread = catchUpSpread;
+        this.catchUpInterval = catchUpInterval;
+        this.catchUpMaxOccurrences = catchUpMaxOccurrences;
+        this.instanceTracker = instanceTracker;
+        // End events are only propagated to observers with asynchronous event propagation
+        this.endEventsObserved = environment.matchesProfiles(SpringProfiles.ASYNCHRONOUS_PROFILE);
+        for (var policy : OverlapPolicy.values()) {
+            skipped.put(policy, Counter.builder("owms.process.execution.timers.skipped")
+                    .description("Number of timer occurrences skipped because the previous execution was still in flight")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+        }
     }
 
     @TransactionalEventListener
     public void onEvent(ConfigurationEvent configurationEvent) {
         switch (configurationEvent.getType()) {
             case CREATED -> {
-                createAndSchedule((TimerConfiguration) configurationEvent.getSource());
+                var tc = (TimerConfiguration) configurationEvent.getSource();
+                if (isOwned(tc)) {
+                    createAndSchedule(tc);
+                }
                 LOGGER.info("New TimerConfiguration created");
             }
             case UPDATED -> LOGGER.info("New TimerConfiguration updated");
@@ -68,6 +121,8 @@ class TimeTriggeredWorkflowExecutor {
                         break;
                     }
                 }
+                inFlight.remove(pKey);
+                fireLocks.remove(pKey);
             }
             default -> LOGGER.warn("Unknown ConfigurationEvent type: {}", configurationEvent.getType());
         }
@@ -75,15 +130,215 @@ class TimeTriggeredWorkflowExecutor {
 
     @PostConstruct
     public void execute() {
+        if (coordination == TimerCoordination.SHARDED) {
+            // Timers are scheduled as soon as this node knows which timers it owns
+            return;
+        }
         var timerConfigurations = timerConfigurationService.loadConfigurations();
         timerConfigurations.forEach(this::createAndSchedule);
     }
 
-    private void createAndSchedule(TimerConfiguration tc) {
-        var cronTrigger = new CronTrigger(tc.getCronExpression());
-        var scheduledFuture = taskScheduler.schedule(
-                () -> programExecutor.execute(tc.getName(), new HashMap<>(tc.getRuntimeVariables())),
-                cronTrigger);
-        scheduledFutureMap.put(tc.getPersistentKey(), scheduledFuture);
+    /**
+     * Schedule the timers this node owns now and cancel the ones it does not own anymore.
+     *
+     * @param event Carries the current ring of live nodes
+     */
+    @EventListener
+    public synchronized void onMembershipChange(TimerMembershipEvent event) {
+        membership = event;
+        var owned = timerConfigurationService.loadConfigurations().stream()
+                .filter(tc -> event.owns(tc.getPersistentKey()))
+                .collect(Collectors.toMap(TimerConfiguration::getPersistentKey, tc -> tc));
+        for (var entry : scheduledFutureMap.entrySet()) {
+            if (!owned.containsKey(entry.getKey())) {
+                entry.getValue().cancel(false);
+                scheduledFutureMap.remove(entry.getKey());
+            }
+        }
+        owned.values().stream()
+                .filter(tc -> !scheduledFutureMap.containsKey(tc.getPersistentKey()))
+                .forEach(this::createAndSchedule);
+        LOGGER.info("Owning [{}] timers as one of [{}] nodes", scheduledFutureMap.size(), event.ring().getMembers().size());
+    }
+
+    private boolean isOwned(TimerConfiguration tc) {
+        if (coordination != TimerCoordination.SHARDED) {
+            return true;
+        }
+        var current = membership;
+        return current != null && current.owns(tc.getPersistentKey());
+    }
+
+    private synchronized void createAndSchedule(TimerConfiguration tc) {
+        fireLocks.register(tc.getPersistentKey());
+        var trigger = new OccurrenceTrigger(tc.getCronExpression());
+        catchUp(tc, trigger);
+        var scheduledTimer = new ScheduledTimer(tc, trigger);
+        scheduledFutureMap.put(tc.getPersistentKey(), scheduledTimer);
+        scheduledTimer.scheduleAfter(Instant.now());
+    }
+
+    private void catchUp(TimerConfiguration tc, OccurrenceTrigger trigger) {
+        var state = fireLocks.find(tc.getPersistentKey());
+        if (state == null || Instant.EPOCH.equals(state.getFireTime())) {
+            // Never fired before, nothing to catch up
+            return;
+        }
+        var now = Instant.now();
+        var missed = trigger.occurrencesBetween(state.getFireTime(), now, catchUpMaxOccurrences);
+        if (missed.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Timer [{}] missed [{}{}] occurrences since [{}], misfire policy is [{}]", tc.getPersistentKey(), missed.size(),
+                missed.size() == catchUpMaxOccurrences ? "+" : "", state.getFireTime(), tc.getMisfirePolicy());
+        if (tc.getMisfirePolicy() == MisfirePolicy.SKIP) {
+            return;
+        }
+        var occurrences = tc.getMisfirePolicy() == MisfirePolicy.FIRE_ONCE ? List.of(missed.getLast()) : missed;
+        var claimed = new ArrayList<Instant>(occurrences.size());
+        for (var occurrence : occurrences) {
+            // Claimed one by one and before the regular occurrences, so that occurrences another node has executed in the meantime
+            // are not executed again
+            if (claim(tc, trigger, occurrence)) {
+                claimed.add(occurrence);
+            }
+        }
+        var start = now.plusMillis(ThreadLocalRandom.current().nextLong(catchUpSpread.toMillis() + 1));
+        for (var i = 0; i < claimed.size(); i++) {
+            var occurrence = claimed.get(i);
+            taskScheduler.schedule(() -> {
+                if (scheduledFutureMap.containsKey(tc.getPersistentKey())) {
+                    execute(tc, occurrence);
+                }
+            }, start.plus(catchUpInterval.multipliedBy(i)));
+        }
+    }
+
+    private void fire(TimerConfiguration tc, OccurrenceTrigger trigger, Instant occurrence) {
+        if (!claim(tc, trigger, occurrence)) {
+            LOGGER.debug("Occurrence [{}] of timer [{}] is executed by another node", occurrence, tc.getPersistentKey());
+            return;
+        }
+        execute(tc, occurrence);
+    }
+
+    private boolean claim(TimerConfiguration tc, OccurrenceTrigger trigger, Instant occurrence) {
+        var next = trigger.nextAfter(occurrence);
+        if (coordination != TimerCoordination.NONE) {
+            return fireLocks.tryAcquire(tc.getPersistentKey(), occurrence, next);
+        }
+        try {
+            fireLocks.record(tc.getPersistentKey(), occurrence, next);
+        } catch (RuntimeException e) {
+            // Without coordination the timer fires anyway
+            LOGGER.warn("Could not record occurrence [{}] of timer [{}]: [{}]", occurrence, tc.getPersistentKey(), e.getMessage());
+        }
+        return true;
+    }
+
+    private void execute(TimerConfiguration tc, Instant occurrence) {
+        var policy = tc.getOverlapPolicy();
+        if (policy == OverlapPolicy.ALLOW) {
+            programExecutor.execute(tc.getName(), new HashMap<>(tc.getRuntimeVariables()));
+            return;
+        }
+        var executions = inFlight.computeIfAbsent(tc.getPersistentKey(), k -> new AtomicInteger());
+        var limit = policy == OverlapPolicy.QUEUE_ONE ? 2 : 1;
+        while (true) {
+            var current = executions.get();
+            if (current >= limit) {
+                LOGGER.debug("Timer [{}] is still in flight, occurrence [{}] skipped", tc.getPersistentKey(), occurrence);
+                skipped.get(policy).increment();
+                return;
+            }
+            if (executions.compareAndSet(current, current + 1)) {
+                if (current == 0) {
+                    startTracked(tc, executions);
+                }
+                // Otherwise queued, started by the completion of the execution in flight
+                return;
+            }
+        }
+    }
+
+    private void startTracked(TimerConfiguration tc, AtomicInteger executions) {
+        instanceTracker.starting();
+        CompletableFuture<ProgramResult> execution;
+        try {
+            execution = programExecutor.executeAsync(tc.getName(), new HashMap<>(tc.getRuntimeVariables()));
+        } catch (RuntimeException e) {
+            execution = CompletableFuture.failedFuture(e);
+        }
+        execution.whenComplete((result, ex) -> {
+            if (ex != null) {
+                LOGGER.warn("Execution of timer [{}] failed: [{}]", tc.getPersistentKey(), ex.getMessage());
+            }
+            var processInstanceId = ex == null && result != null && endEventsObserved ? result.getProcessInstanceId() : null;
+            // The end of the instance is observed on the propagating thread, which must not block
+            instanceTracker.started(processInstanceId, () -> taskScheduler.schedule(() -> release(tc, executions), Instant.now()));
+            if (processInstanceId == null) {
+                release(tc, executions);
+            }
+        });
+    }
+
+    private void release(TimerConfiguration tc, AtomicInteger executions) {
+        if (inFlight.get(tc.getPersistentKey()) != executions) {
+            // The timer has been deleted in the meantime
+            return;
+        }
+        if (executions.decrementAndGet() > 0) {
+            startTracked(tc, executions);
+        }
+    }
+
+    /**
+     * A ScheduledTimer schedules the occurrences of one timer one after another, each with its own scheduled time. So an occurrence
+     * does not depend on the scheduler calling back a trigger before the task runs, which schedulers on virtual threads do not
+     * guarantee.
+     */
+    private final class ScheduledTimer {
+
+        private final TimerConfiguration tc;
+        private final OccurrenceTrigger trigger;
+        private ScheduledFuture<?> current;
+        private boolean cancelled;
+
+        private ScheduledTimer(TimerConfiguration tc, OccurrenceTrigger trigger) {
+            this.tc = tc;
+            this.trigger = trigger;
+        }
+
+        /**
+         * Schedule the first occurrence after the given time.
+         *
+         * @param instant The time to start from
+         */
+        private synchronized void scheduleAfter(Instant instant) {
+            var occurrence = trigger.nextAfter(instant);
+            if (!cancelled && occurrence != null) {
+                current = taskScheduler.schedule(() -> run(occurrence), occurrence);
+            }
+        }
+
+        private void run(Instant occurrence) {
+            try {
+                fire(tc, trigger, occurrence);
+            } catch (RuntimeException e) {
+                LOGGER.error("Occurrence [{}] of timer [{}] failed: [{}]", occurrence, tc.getPersistentKey(), e.getMessage(), e);
+            } finally {
+                // Continue after the latest of the completion and the occurrence, a run that took longer than the interval does not
+                // cause an immediate catch-up
+                var now = Instant.now();
+                scheduleAfter(now.isAfter(occurrence) ? now : occurrence);
+            }
+        }
+
+        private synchronized void cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            if (current != null) {
+                current.cancel(mayInterruptIfRunning);
+            }
+        }
     }
 }
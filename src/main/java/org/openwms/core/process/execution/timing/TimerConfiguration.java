@@ -19,6 +19,8 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.JoinColumn;
@@ -62,6 +64,14 @@ public class TimerConfiguration extends ApplicationEntity {
     @MapKeyColumn(name = "C_KEY")
     @Column(name = "C_VALUE")
     private Map<String, String> runtimeVariables = new HashMap<>();
+    /** What happens with occurrences that have been missed, defaults to {@link MisfirePolicy#SKIP}. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "C_MISFIRE_POLICY")
+    private MisfirePolicy misfirePolicy;
+    /** What happens if the timer fires while its previous execution is in flight, defaults to {@link OverlapPolicy#ALLOW}. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "C_OVERLAP_POLICY")
+    private OverlapPolicy overlapPolicy;
 
     protected TimerConfiguration() {}
 
@@ -102,6 +112,22 @@ public class TimerConfiguration extends ApplicationEntity {
         this.runtimeVariables = runtimeVariables;
     }
 
+    public MisfirePolicy getMisfirePolicy() {
+        return misfirePolicy == null ? MisfirePolicy.SKIP : misfirePolicy;
+    }
+
+    public void setMisfirePolicy(MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+    }
+
+    public OverlapPolicy getOverlapPolicy() {
+        return overlapPolicy == null ? OverlapPolicy.ALLOW : overlapPolicy;
+    }
+
+    public void setOverlapPolicy(OverlapPolicy overlapPolicy) {
+        this.overlapPolicy = overlapPolicy;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -113,7 +139,7 @@ public class TimerConfiguration extends ApplicationEntity {
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         var that = (TimerConfiguration) o;
-        return Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(cronExpression, that.cronExpression) && Objects.equals(runtimeVariables, that.runtimeVariables);
+        return Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(cronExpression, that.cronExpression) && Objects.equals(runtimeVariables, that.runtimeVariables) && misfirePolicy == that.misfirePolicy && overlapPolicy == that.overlapPolicy;
     }
 
     /**
@@ -123,6 +149,6 @@ public class TimerConfiguration extends ApplicationEntity {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), name, description, cronExpression, runtimeVariables);
+        return Objects.hash(super.hashCode(), name, description, cronExpression, runtimeVariables, misfirePolicy, overlapPolicy);
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+/**
+ * A TimerCoordination defines how the nodes of a cluster agree on which node fires a {@link TimerConfiguration}.
+ *
+ * @author Heiko Scherrer
+ */
+public enum TimerCoordination {
+
+    /** Every node fires every timer, suitable for a single node only. */
+    NONE,
+    /**
+     * Every node schedules every timer, but only the node that claims an occurrence in the {@link TimerFireLocks} first executes it.
+     */
+    LOCK,
+    /**
+     * Each node schedules only the timers it owns, assigned by a consistent hash over the live nodes of the latest
+     * {@link TimerMembershipEvent}. Occurrences are claimed with the database fire lock as well, to prevent double execution while
+     * ownership moves.
+     */
+    SHARDED;
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * A TimerFireLock records the latest occurrence of a {@link TimerConfiguration} that has been claimed by a node, and when the timer
+ * fires next. There is one row per timer, an occurrence is claimed by moving the fire time forward.
+ *
+ * @author Heiko Scherrer
+ */
+@Entity
+@Table(name = "TMS_RSRV_TIMER_FIRE_LOCK")
+class TimerFireLock {
+
+    /** The persistent key of the TimerConfiguration. */
+    @Id
+    @Column(name = "C_TIMER_PK")
+    private String timerPKey;
+    /** The scheduled time of the latest claimed occurrence. */
+    @Column(name = "C_FIRE_TIME", nullable = false)
+    private Instant fireTime;
+    /** The scheduled time of the next occurrence after the latest claimed one. */
+    @Column(name = "C_NEXT_FIRE_TIME")
+    private Instant nextFireTime;
+    /** The node that claimed the latest occurrence. */
+    @Column(name = "C_OWNER")
+    private String owner;
+    @Column(name = "C_ACQUIRED")
+    private Instant acquired;
+
+    protected TimerFireLock() {}
+
+    TimerFireLock(String timerPKey) {
+        this.timerPKey = timerPKey;
+        this.fireTime = Instant.EPOCH;
+    }
+
+    /**
+     * Return the scheduled time of the latest claimed occurrence.
+     *
+     * @return The fire time, {@link Instant#EPOCH} if the timer has never fired
+     */
+    Instant getFireTime() {
+        return fireTime;
+    }
+
+    Instant getNextFireTime() {
+        return nextFireTime;
+    }
+}
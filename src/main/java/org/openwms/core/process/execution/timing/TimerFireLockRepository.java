@@ -0,0 +1,50 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * A TimerFireLockRepository.
+ *
+ * @author Heiko Scherrer
+ */
+interface TimerFireLockRepository extends JpaRepository<TimerFireLock, String> {
+
+    /**
+     * Claim an occurrence unless it or a later one has been claimed before. Competing nodes do not wait for each other, the first
+     * update wins and all others update no row.
+     */
+    @Modifying
+    @Query("update TimerFireLock l set l.fireTime = :fireTime, l.nextFireTime = :nextFireTime, l.owner = :owner, l.acquired = :now " +
+            "where l.timerPKey = :timerPKey and l.fireTime < :fireTime")
+    int claim(@Param("timerPKey") String timerPKey, @Param("fireTime") Instant fireTime, @Param("nextFireTime") Instant nextFireTime,
+            @Param("owner") String owner, @Param("now") Instant now);
+
+    /**
+     * Record an occurrence without claiming it.
+     */
+    @Modifying
+    @Query("update TimerFireLock l set l.fireTime = :fireTime, l.nextFireTime = :nextFireTime, l.owner = :owner, l.acquired = :now " +
+            "where l.timerPKey = :timerPKey")
+    int record(@Param("timerPKey") String timerPKey, @Param("fireTime") Instant fireTime, @Param("nextFireTime") Instant nextFireTime,
+            @Param("owner") String owner, @Param("now") Instant now);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A TimerFireLocks decides which node of a cluster executes an occurrence of a {@link TimerConfiguration}. The lock row of a timer
+ * is created when the timer is scheduled, so that claiming an occurrence is a single conditional update in an own transaction. The
+ * row also tells when the timer has fired last and when it fires next, which is used to detect misfires.
+ *
+ * @author Heiko Scherrer
+ */
+@Component
+class TimerFireLocks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerFireLocks.class);
+    private final TimerFireLockRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    TimerFireLocks(TimerFireLockRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Create the lock row of a timer unless it exists already.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     */
+    void register(String timerPKey) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!repository.existsById(timerPKey)) {
+                    repository.saveAndFlush(new TimerFireLock(timerPKey));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.debug("Fire lock of timer [{}] has been created concurrently", timerPKey);
+        }
+    }
+
+    /**
+     * Find the fire times of a timer.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     * @return The lock row or {@literal null} if the timer has not been registered yet
+     */
+    TimerFireLock find(String timerPKey) {
+        return transactionTemplate.execute(status -> repository.findById(timerPKey).orElse(null));
+    }
+
+    /**
+     * Try to claim an occurrence of a timer.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     * @param fireTime The scheduled time of the occurrence
+     * @param nextFireTime The scheduled time of the following occurrence
+     * @return {@literal true} if this node has claimed the occurrence and shall execute it
+     */
+    boolean tryAcquire(String timerPKey, Instant fireTime, Instant nextFireTime) {
+        var claimed = transactionTemplate.execute(status -> repository.claim(timerPKey, fireTime, nextFireTime, owner, Instant.now()));
+        return claimed != null && claimed == 1;
+    }
+
+    /**
+     * Record an occurrence of a timer unconditionally, used when nodes do not coordinate.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     * @param fireTime The scheduled time of the occurrence
+     * @param nextFireTime The scheduled time of the following occurrence
+     */
+    void record(String timerPKey, Instant fireTime, Instant nextFireTime) {
+        transactionTemplate.executeWithoutResult(status -> repository.record(timerPKey, fireTime, nextFireTime, owner, Instant.now()));
+    }
+
+    /**
+     * Remove the lock row of a deleted timer.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     */
+    void remove(String timerPKey) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (repository.existsById(timerPKey)) {
+                repository.deleteById(timerPKey);
+            }
+        });
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A TimerMembership keeps the heartbeat of this node in the {@code TMS_RSRV_TIMER_NODE} table and tracks the live nodes. Nodes whose
+ * heartbeat is older than the node timeout are considered dead and removed. When the set of live nodes changes a
+ * {@link TimerMembershipEvent} is published, so that timers are reassigned.
+ *
+ * @author Heiko Scherrer
+ */
+@ConditionalOnProperty(name = "owms.process.execution.timers.coordination", havingValue = "SHARDED")
+@Component
+class TimerMembership implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerMembership.class);
+    private final String nodeId = UUID.randomUUID().toString();
+    private final TimerNodeRepository repository;
+    private final ApplicationEventPublisher publisher;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration heartbeatInterval;
+    private final Duration nodeTimeout;
+    private final Duration rebalanceInterval;
+    private final int virtualNodes;
+    private volatile ScheduledFuture<?> scheduledFuture;
+    private Set<String> members = Set.of();
+    private Instant lastRebalance = Instant.EPOCH;
+
+    TimerMembership(TimerNodeRepository repository, ApplicationEventPublisher publisher, TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager,
+            @Value("${owms.process.execution.timers.heartbeat-interval:PT5S}") Duration heartbeatInterval,
+            @Value("${owms.process.execution.timers.node-timeout:PT20S}") Duration nodeTimeout,
+            @Value("${owms.process.execution.timers.rebalance-interval:PT1M}") Duration rebalanceInterval,
+            @Value("${owms.process.execution.timers.virtual-nodes:100}") int virtualNodes) {
+        if (nodeTimeout.compareTo(heartbeatInterval.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("The node timeout must be at least twice the heartbeat interval");
+        }
+        this.repository = repository;
+        this.publisher = publisher;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.heartbeatInterval = heartbeatInterval;
+        this.nodeTimeout = nodeTimeout;
+        this.rebalanceInterval = rebalanceInterval;
+        this.virtualNodes = virtualNodes;
+    }
+
+    void heartbeat() {
+        try {
+            var now = Instant.now();
+            var alive = transactionTemplate.execute(status -> {
+                if (repository.beat(nodeId, now) == 0) {
+                    repository.save(new TimerNode(nodeId, now));
+                }
+                repository.deleteExpired(now.minus(nodeTimeout.multipliedBy(3)));
+                return new HashSet<>(repository.findAlive(now.minus(nodeTimeout)));
+            });
+            if (alive == null) {
+                return;
+            }
+            // This node may have been removed as expired after a long pause, it is alive in any case
+            alive.add(nodeId);
+            if (!alive.equals(members)) {
+                LOGGER.info("Timer nodes changed from [{}] to [{}] live nodes, rebalancing", members.size(), alive.size());
+            } else if (now.isBefore(lastRebalance.plus(rebalanceInterval))) {
+                return;
+            }
+            members = alive;
+            lastRebalance = now;
+            publisher.publishEvent(new TimerMembershipEvent(nodeId, new ConsistentHashRing(alive, virtualNodes)));
+        } catch (RuntimeException e) {
+            LOGGER.error("Heartbeat of timer node [{}] failed: [{}]", nodeId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        scheduledFuture = taskScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Leaves the cluster, so that the other nodes take over the timers of this node with their next heartbeat.
+     */
+    @Override
+    public void stop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            scheduledFuture = null;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.deleteById(nodeId));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not leave the cluster of timer nodes: [{}]", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return scheduledFuture != null;
+    }
+}
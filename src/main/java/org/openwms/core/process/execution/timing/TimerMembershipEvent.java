@@ -0,0 +1,37 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+/**
+ * A TimerMembershipEvent is published when the timers have to be rebalanced, because nodes joined or left the cluster or
+ * periodically to pick up timers that have been created or deleted on other nodes.
+ *
+ * @param nodeId The ID of this node
+ * @param ring The ring of all live nodes
+ * @author Heiko Scherrer
+ */
+record TimerMembershipEvent(String nodeId, ConsistentHashRing ring) {
+
+    /**
+     * Whether this node owns the given timer.
+     *
+     * @param timerPKey The persistent key of the TimerConfiguration
+     * @return {@literal true} if so
+     */
+    boolean owns(String timerPKey) {
+        return nodeId.equals(ring.ownerOf(timerPKey));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * A TimerNode is a live member of the cluster that shares the timers, as long as it keeps its heartbeat up to date.
+ *
+ * @author Heiko Scherrer
+ */
+@Entity
+@Table(name = "TMS_RSRV_TIMER_NODE")
+class TimerNode {
+
+    @Id
+    @Column(name = "C_NODE_ID")
+    private String nodeId;
+    @Column(name = "C_HEARTBEAT", nullable = false)
+    private Instant heartbeat;
+
+    protected TimerNode() {}
+
+    TimerNode(String nodeId, Instant heartbeat) {
+        this.nodeId = nodeId;
+        this.heartbeat = heartbeat;
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A TimerNodeRepository.
+ *
+ * @author Heiko Scherrer
+ */
+interface TimerNodeRepository extends JpaRepository<TimerNode, String> {
+
+    @Modifying
+    @Query("update TimerNode n set n.heartbeat = :now where n.nodeId = :nodeId")
+    int beat(@Param("nodeId") String nodeId, @Param("now") Instant now);
+
+    @Query("select n.nodeId from TimerNode n where n.heartbeat > :since")
+    List<String> findAlive(@Param("since") Instant since);
+
+    @Modifying
+    @Query("delete from TimerNode n where n.heartbeat < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
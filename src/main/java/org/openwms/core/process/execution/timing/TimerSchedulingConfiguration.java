@@ -0,0 +1,66 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * A TimerSchedulingConfiguration provides an alternative scheduler for timers. With
+ * {@literal owms.process.execution.timers.engine=WHEEL} timers are scheduled in a {@link HashedWheelTaskScheduler} instead of the
+ * application's default {@code TaskScheduler}.
+ *
+ * @author Heiko Scherrer
+ */
+@Configuration
+class TimerSchedulingConfiguration {
+
+    /** Name of the scheduler used for timers only. */
+    static final String TIMER_SCHEDULER_NAME = "timerTaskScheduler";
+
+    /*
+     * Not a default candidate, so that components injecting a TaskScheduler by type still get the application's default one.
+     */
+    @ConditionalOnProperty(name = "owms.process.execution.timers.engine", havingValue = "WHEEL")
+    @Bean(name = TIMER_SCHEDULER_NAME, defaultCandidate = false, destroyMethod = "shutdown")
+    HashedWheelTaskScheduler timerTaskScheduler(
+            @Value("${owms.process.execution.timers.wheel.tick-duration:PT0.1S}") Duration tickDuration,
+            @Value("${owms.process.execution.timers.wheel.size:512}") int wheelSize,
+            @Value("${owms.process.execution.timers.wheel.dispatch-pool-size:10}") int dispatchPoolSize,
+            @Value("${owms.process.execution.virtual-threads.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        var dispatcher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(new VirtualThreadTaskExecutor("TimerDispatch-").getVirtualThreadFactory())
+                : Executors.newFixedThreadPool(dispatchPoolSize, new CustomizableThreadFactory("TimerDispatch-"));
+        new ExecutorServiceMetrics(dispatcher, "timerDispatchExecutor", Tags.empty()).bindTo(meterRegistry);
+        var scheduler = new HashedWheelTaskScheduler(tickDuration, wheelSize, dispatcher);
+        Gauge.builder("owms.process.execution.timers.scheduled", scheduler, HashedWheelTaskScheduler::size)
+                .description("Number of timer executions waiting in the timing wheel")
+                .register(meterRegistry);
+        return scheduler;
+    }
+}
@@ -44,10 +44,16 @@ public record TimerConfigurationVO(
         String cronExpression,
         /** An arbitrary map of runtime variables that are passed to the workflow execution. */
         @JsonProperty("runtimeVariables")
-        Map<String, String> runtimeVariables
+        Map<String, String> runtimeVariables,
+        /** What happens with missed occurrences, one of {@literal SKIP} (default), {@literal FIRE_ONCE} or {@literal FIRE_ALL}. */
+        @JsonProperty("misfirePolicy")
+        String misfirePolicy,
+        /** What happens if the timer fires while its previous execution is in flight, one of {@literal ALLOW} (default), {@literal SKIP_IF_RUNNING} or {@literal QUEUE_ONE}. */
+        @JsonProperty("overlapPolicy")
+        String overlapPolicy
 ) implements Serializable {
 
         public TimerConfigurationVO(String name, String description, String cronExpression, Map<String, String> runtimeVariables) {
-                this("", name, description, cronExpression, runtimeVariables);
+                this("", name, description, cronExpression, runtimeVariables, null, null);
         }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A ExecutionRejectionPolicyTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ExecutionRejectionPolicyTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor executor;
+
+    /*
+     * One busy thread and one queued task, so the executor is saturated afterwards.
+     */
+    private void saturated(ExecutionRejectionPolicy policy, Duration blockTimeout) {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), policy.toHandler(blockTimeout));
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shall_run_in_caller_thread() {
+        saturated(ExecutionRejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        var runner = new AtomicReference<Thread>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+        assertThat(runner).hasValue(Thread.currentThread());
+    }
+
+    @Test
+    void shall_reject_immediately() {
+        saturated(ExecutionRejectionPolicy.FAIL_FAST, Duration.ZERO);
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shall_reject_after_block_timeout() {
+        saturated(ExecutionRejectionPolicy.BLOCK, Duration.ofMillis(100));
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("No free capacity");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void shall_block_until_capacity_is_free() throws InterruptedException {
+        saturated(ExecutionRejectionPolicy.BLOCK, Duration.ofSeconds(10));
+        var executed = new CountDownLatch(1);
+        new Thread(() -> {
+            awaitSilently(50);
+            release.countDown();
+        }).start();
+        executor.execute(executed::countDown);
+        assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shall_reject_when_shut_down() {
+        saturated(ExecutionRejectionPolicy.BLOCK, Duration.ofSeconds(10));
+        executor.shutdown();
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("shut down");
+    }
+
+    private static void awaitSilently(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A RuntimeConfigurationTest.
+ *
+ * @author Heiko Scherrer
+ */
+class RuntimeConfigurationTest {
+
+    @Test
+    void shall_fire_timers_on_virtual_threads() throws Exception {
+        var scheduler = new RuntimeConfiguration(true).taskScheduler();
+        assertThat(scheduler).isInstanceOf(SimpleAsyncTaskScheduler.class);
+        try {
+            var thread = new CompletableFuture<Thread>();
+            scheduler.schedule(() -> thread.complete(Thread.currentThread()), Instant.now());
+            assertThat(thread.get(5, TimeUnit.SECONDS).isVirtual()).isTrue();
+            assertThat(thread.get().getName()).startsWith("ProcessExecution-");
+        } finally {
+            ((SimpleAsyncTaskScheduler) scheduler).close();
+        }
+    }
+
+    @Test
+    void shall_use_a_platform_thread_pool_by_default() {
+        assertThat(new RuntimeConfiguration(false).taskScheduler()).isInstanceOf(ThreadPoolTaskScheduler.class);
+    }
+
+    @Test
+    void shall_execute_programs_on_virtual_threads_up_to_the_concurrency_limit() throws Exception {
+        var executor = new RuntimeConfiguration(true).programExecutionExecutor(10, 500, ExecutionRejectionPolicy.CALLER_RUNS,
+                Duration.ofSeconds(5), 256, new SimpleMeterRegistry());
+        try {
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(256);
+            assertThat(executor.allowsCoreThreadTimeOut()).isTrue();
+            var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(5, TimeUnit.SECONDS);
+            assertThat(thread.isVirtual()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shall_execute_programs_on_platform_threads_by_default() throws Exception {
+        var executor = new RuntimeConfiguration(false).programExecutionExecutor(10, 500, ExecutionRejectionPolicy.CALLER_RUNS,
+                Duration.ofSeconds(5), 256, new SimpleMeterRegistry());
+        try {
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(10);
+            var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(5, TimeUnit.SECONDS);
+            assertThat(thread.isVirtual()).isFalse();
+            assertThat(thread.getName()).startsWith("ProgramExecution-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * A VirtualThreadPinningMetricsTest.
+ *
+ * @author Heiko Scherrer
+ */
+class VirtualThreadPinningMetricsTest {
+
+    @Test
+    void shall_count_pinned_virtual_threads() throws Exception {
+        // Since JDK 24 virtual threads do not pin their carrier within synchronized blocks anymore
+        assumeTrue(Runtime.version().feature() < 24);
+        var registry = new SimpleMeterRegistry();
+        var testee = new VirtualThreadPinningMetrics(Duration.ofMillis(1), registry);
+        testee.start();
+        try {
+            var monitor = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+            var counter = registry.get("owms.process.execution.virtual-threads.pinned").counter();
+            var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (counter.count() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(counter.count()).isPositive();
+            assertThat(registry.get("owms.process.execution.virtual-threads.pinned.duration").timer().count()).isPositive();
+        } finally {
+            testee.stop();
+        }
+    }
+}
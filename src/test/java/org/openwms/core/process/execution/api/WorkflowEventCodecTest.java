@@ -0,0 +1,126 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A WorkflowEventCodecTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventCodecTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowEventCodecTest.class);
+    private static final int ITERATIONS = 100_000;
+
+    private static WorkflowEvent event() {
+        return new WorkflowEvent("ACTIVITY_COMPLETED", UUID.randomUUID().toString(), "WF_RECEIVING_PROCESS:12:" + UUID.randomUUID(),
+                UUID.randomUUID().toString(), "WF_RECEIVING_PROCESS", "TU-000000004711");
+    }
+
+    @Test
+    void shall_roundtrip() {
+        var event = event();
+        assertThat(WorkflowEventCodec.decode(WorkflowEventCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void shall_roundtrip_null_and_non_ascii_values() {
+        var event = new WorkflowEvent("PROCESS_STARTED", null, "WF01:1:4711", "", null, "Lagerplatz-Ä".repeat(20));
+        assertThat(WorkflowEventCodec.decode(WorkflowEventCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void shall_roundtrip_snapshots() {
+        var event = event();
+        event.setEventType("PROCESS_SNAPSHOT");
+        event.setOccurredAt(Instant.ofEpochMilli(1_700_000_000_123L));
+        event.setActivities(List.of(new WorkflowActivity("task_1", Instant.ofEpochMilli(1_700_000_000_000L), 123L),
+                new WorkflowActivity("gateway_1", null, null)));
+        assertThat(WorkflowEventCodec.decode(WorkflowEventCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void shall_reject_invalid_input() {
+        var encoded = WorkflowEventCodec.encode(event());
+        var truncated = new byte[encoded.length / 2];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        assertThatThrownBy(() -> WorkflowEventCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkflowEventCodec.decode(new byte[]{9})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void benchmark_against_java_serialization_and_json() throws Exception {
+        var event = event();
+        var mapper = new ObjectMapper();
+        var binary = WorkflowEventCodec.encode(event);
+        var serialized = serialize(event);
+        var json = mapper.writeValueAsBytes(event);
+        LOGGER.info("Payload size binary [{}] bytes, Java serialization [{}] bytes, JSON [{}] bytes", binary.length, serialized.length,
+                json.length);
+        assertThat(binary.length).isLessThan(json.length).isLessThan(serialized.length);
+
+        for (var round = 0; round < 2; round++) {
+            var start = System.nanoTime();
+            for (var i = 0; i < ITERATIONS; i++) {
+                WorkflowEventCodec.decode(WorkflowEventCodec.encode(event));
+            }
+            var binaryNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (var i = 0; i < ITERATIONS; i++) {
+                deserialize(serialize(event));
+            }
+            var serializationNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (var i = 0; i < ITERATIONS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(event), WorkflowEvent.class);
+            }
+            var jsonNanos = System.nanoTime() - start;
+            LOGGER.info("{} encode+decode per event: binary [{}] ns, Java serialization [{}] ns, JSON [{}] ns",
+                    round == 0 ? "Warmup" : "Measured", binaryNanos / ITERATIONS, serializationNanos / ITERATIONS, jsonNanos / ITERATIONS);
+        }
+    }
+
+    private static byte[] serialize(WorkflowEvent event) throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(event);
+        }
+        return bos.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.definition;
+
+import org.ameba.test.categories.SpringTestSupport;
+import org.camunda.bpm.engine.RepositoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.TestServiceRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.multipart;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A WorkflowDefinitionControllerDocumentation.
+ *
+ * @author Heiko Scherrer
+ */
+@SpringTestSupport
+@SpringBootTest(classes = {
+        TestServiceRunner.class
+}, properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.config.discovery.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.main.banner-mode=OFF",
+        "spring.jackson.serialization.INDENT_OUTPUT=true",
+        "owms.process.execution.definitions.upload.max-size=16KB",
+        "owms.process.execution.definitions.upload.max-entries=3"
+})
+class WorkflowDefinitionControllerDocumentation {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private RepositoryService repositoryService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp(RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(documentationConfiguration(restDocumentation)).build();
+    }
+
+    private static byte[] bpmn(String processKey) {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" xmlns:camunda="http://camunda.org/schema/1.0/bpmn"
+                             targetNamespace="http://www.openwms.org/test">
+                  <process id="%s" name="Documented workflow" isExecutable="true" camunda:historyTimeToLive="P1D">
+                    <startEvent id="start"/>
+                    <sequenceFlow id="flow" sourceRef="start" targetRef="end"/>
+                    <endEvent id="end"/>
+                  </process>
+                </definitions>
+                """.formatted(processKey).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(bos)) {
+            out.write(content);
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try (var out = new ZipOutputStream(bos)) {
+            for (var entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private void deploy(String processKey) throws Exception {
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", processKey)
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content(bpmn(processKey)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shall_upload_bpmn() throws Exception {
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", "WF_DOC_UPLOAD")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content(bpmn("WF_DOC_UPLOAD")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id", is("WF_DOC_UPLOAD")))
+                .andDo(document("wd-upload", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_upload_gzip_encoded_bpmn() throws Exception {
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", "WF_DOC_GZIP")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzip(bpmn("WF_DOC_GZIP"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id", is("WF_DOC_GZIP")))
+                .andDo(document("wd-upload-gzip", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_reject_malformed_gzip() throws Exception {
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", "WF_DOC_GZIP")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(bpmn("WF_DOC_GZIP")))
+                .andExpect(status().isBadRequest())
+                .andDo(document("wd-upload-malformed", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_not_deploy_bpmn_without_the_process() throws Exception {
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", "WF_DOC_EXPECTED")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content(bpmn("WF_DOC_OTHER")))
+                .andExpect(status().isNotFound())
+                .andDo(document("wd-upload-other-process", preprocessResponse(prettyPrint())));
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("WF_DOC_OTHER").count()).isZero();
+    }
+
+    @Test
+    void shall_reject_a_decompression_bomb() throws Exception {
+        var bomb = new byte[1024 * 1024];
+        Arrays.fill(bomb, (byte) ' ');
+        mockMvc.perform(put("/workflow-definitions/{id}/bpmn", "WF_DOC_BOMB")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzip(bomb)))
+                .andExpect(status().isPayloadTooLarge())
+                .andDo(document("wd-upload-too-large", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_return_not_modified() throws Exception {
+        deploy("WF_DOC_ETAG");
+        var eTag = mockMvc.perform(get("/workflow-definitions/{id}/bpmn", "WF_DOC_ETAG"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/workflow-definitions/{id}/bpmn", "WF_DOC_ETAG").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andDo(document("wd-bpmn-not-modified"));
+    }
+
+    @Test
+    void shall_download_gzip_encoded() throws Exception {
+        deploy("WF_DOC_DOWNLOAD");
+        var result = mockMvc.perform(get("/workflow-definitions/{id}/bpmn/download", "WF_DOC_DOWNLOAD")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andDo(document("wd-download-gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (var is = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            assertThat(is.readAllBytes()).isEqualTo(bpmn("WF_DOC_DOWNLOAD"));
+        }
+    }
+
+    @Test
+    void shall_download_identity_encoded_if_gzip_is_not_acceptable() throws Exception {
+        deploy("WF_DOC_DOWNLOAD");
+        var result = mockMvc.perform(get("/workflow-definitions/{id}/bpmn/download", "WF_DOC_DOWNLOAD")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(content).isEqualTo(bpmn("WF_DOC_DOWNLOAD"));
+    }
+
+    @Test
+    void shall_deploy_a_zip_archive() throws Exception {
+        var entries = new LinkedHashMap<String, byte[]>();
+        entries.put("models/WF_DOC_ZIP1.bpmn20.xml", bpmn("WF_DOC_ZIP1"));
+        entries.put("models/WF_DOC_ZIP2.bpmn", bpmn("WF_DOC_ZIP2"));
+        entries.put("README.txt", "Not a model".getBytes(StandardCharsets.UTF_8));
+        mockMvc.perform(post("/workflow-definitions/bulk")
+                        .contentType("application/zip")
+                        .content(zip(entries)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andDo(document("wd-bulk-zip", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_reject_a_zip_archive_with_too_many_entries() throws Exception {
+        var entries = new LinkedHashMap<String, byte[]>();
+        for (var i = 1; i <= 4; i++) {
+            entries.put("WF_DOC_MANY%d.bpmn".formatted(i), bpmn("WF_DOC_MANY" + i));
+        }
+        mockMvc.perform(post("/workflow-definitions/bulk")
+                        .contentType("application/zip")
+                        .content(zip(entries)))
+                .andExpect(status().isPayloadTooLarge())
+                .andDo(document("wd-bulk-too-many", preprocessResponse(prettyPrint())));
+    }
+
+    @Test
+    void shall_deploy_multipart_files() throws Exception {
+        mockMvc.perform(multipart("/workflow-definitions/bulk")
+                        .file(new MockMultipartFile("files", "WF_DOC_PART1.bpmn20.xml", MediaType.APPLICATION_XML_VALUE,
+                                bpmn("WF_DOC_PART1")))
+                        .file(new MockMultipartFile("files", "WF_DOC_PART2.bpmn", MediaType.APPLICATION_XML_VALUE,
+                                bpmn("WF_DOC_PART2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andDo(document("wd-bulk-multipart", preprocessResponse(prettyPrint())));
+    }
+}
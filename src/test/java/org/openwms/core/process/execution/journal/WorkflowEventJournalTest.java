@@ -0,0 +1,122 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A WorkflowEventJournalTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private WorkflowEventJournal journal() {
+        var journal = journal(10_000);
+        journal.start();
+        return journal;
+    }
+
+    private WorkflowEventJournal journal(int queueCapacity) {
+        var properties = new JournalProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofBytes(256));
+        properties.setMaxRecordSize(DataSize.ofBytes(128));
+        properties.setQueueCapacity(queueCapacity);
+        return new WorkflowEventJournal(properties, new SimpleMeterRegistry());
+    }
+
+    private static WorkflowEvent event(int i) {
+        return new WorkflowEvent("ACTIVITY_STARTED", "EX" + i, "WF01:1:4711", "PI1", "WF01", "BK" + i);
+    }
+
+    @Test
+    void shall_replay_across_segments_and_restarts() {
+        var testee = journal();
+        for (var i = 1; i <= 10; i++) {
+            testee.onEvent(event(i));
+        }
+        testee.stop();
+
+        assertThat(testee.getLastSequence()).isEqualTo(10);
+        var records = testee.read(0, 100);
+        assertThat(records).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(records.get(0).event()).isEqualTo(event(1));
+        assertThat(testee.read(7, 2)).extracting(JournalRecord::sequence).containsExactly(8L, 9L);
+
+        var reopened = journal();
+        reopened.onEvent(event(11));
+        reopened.stop();
+        assertThat(reopened.read(9, 100)).extracting(JournalRecord::sequence).containsExactly(10L, 11L);
+        assertThat(reopened.read(10, 100).get(0).event()).isEqualTo(event(11));
+    }
+
+    private static void awaitLastSequence(WorkflowEventJournal journal, long sequence) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (journal.getLastSequence() < sequence && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void shall_leave_a_gap_for_dropped_events() throws InterruptedException {
+        var testee = journal(2);
+        for (var i = 1; i <= 4; i++) {
+            testee.onEvent(event(i));
+        }
+        testee.start();
+        awaitLastSequence(testee, 2);
+        testee.onEvent(event(5));
+        awaitLastSequence(testee, 5);
+        var tooLarge = event(6);
+        tooLarge.setBusinessKey("X".repeat(512));
+        testee.onEvent(tooLarge);
+        testee.onEvent(event(7));
+        testee.stop();
+
+        var records = testee.read(0, 100);
+        assertThat(records).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 5L, 7L);
+        assertThat(records.get(2).event()).isEqualTo(event(5));
+        assertThat(testee.getDropped()).isEqualTo(3);
+    }
+
+    @Test
+    void shall_reject_segments_that_cannot_be_mapped_or_hold_a_record() {
+        var properties = new JournalProperties();
+        properties.setSegmentSize(DataSize.ofGigabytes(2));
+        assertThatThrownBy(() -> new WorkflowEventJournal(properties, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("segment-size");
+
+        properties.setSegmentSize(DataSize.ofKilobytes(64));
+        assertThatThrownBy(() -> new WorkflowEventJournal(properties, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("max-record-size");
+    }
+}
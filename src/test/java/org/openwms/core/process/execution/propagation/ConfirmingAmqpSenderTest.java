@@ -0,0 +1,90 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A ConfirmingAmqpSenderTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ConfirmingAmqpSenderTest {
+
+    private static ConfirmingAmqpSender sender(RabbitTemplate rabbitTemplate, PropagationProperties properties) {
+        return new ConfirmingAmqpSender("bpmn-exec-events", rabbitTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private static CachingConnectionFactory connectionFactory(CachingConnectionFactory.ConfirmType confirmType) {
+        var connectionFactory = new CachingConnectionFactory("localhost");
+        connectionFactory.setPublisherConfirmType(confirmType);
+        return connectionFactory;
+    }
+
+    @Test
+    void shall_fail_without_simple_confirms() {
+        for (var confirmType : List.of(CachingConnectionFactory.ConfirmType.NONE, CachingConnectionFactory.ConfirmType.CORRELATED)) {
+            var connectionFactory = connectionFactory(confirmType);
+            assertThatThrownBy(() -> sender(new RabbitTemplate(connectionFactory), new PropagationProperties()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("publisher-confirm-type=simple");
+            assertThat(connectionFactory.getPublisherConfirmType()).isEqualTo(confirmType);
+        }
+    }
+
+    @Test
+    void shall_not_wait_after_the_last_attempt() {
+        var rabbitTemplate = mock(RabbitTemplate.class);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory(CachingConnectionFactory.ConfirmType.SIMPLE));
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpConnectException(new ConnectException("refused")));
+        var properties = new PropagationProperties();
+        properties.getPublisher().setMaxRetries(2);
+        properties.getPublisher().setRetryBackoff(Duration.ofMillis(200));
+
+        var start = System.nanoTime();
+        assertThat(sender(rabbitTemplate, properties).send(List.of(new WorkflowEvent("PROCESS_STARTED", "E1", "WF:1:1", "PI1"))))
+                .isFalse();
+
+        // 200 ms and 400 ms between the three attempts, but no wait after the last one
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isBetween(Duration.ofMillis(600), Duration.ofMillis(1_000));
+        verify(rabbitTemplate, times(3)).invoke(any());
+    }
+
+    @Test
+    void shall_limit_the_backoff() {
+        assertThat(ConfirmingAmqpSender.backoff(200, 0, 30_000)).isEqualTo(200);
+        assertThat(ConfirmingAmqpSender.backoff(200, 3, 30_000)).isEqualTo(1_600);
+        assertThat(ConfirmingAmqpSender.backoff(200, 100, 30_000)).isEqualTo(30_000);
+        assertThat(ConfirmingAmqpSender.backoff(200, Integer.MAX_VALUE, Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+    }
+}
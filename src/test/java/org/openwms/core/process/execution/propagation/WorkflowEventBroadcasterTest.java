@@ -0,0 +1,152 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+import java.io.IOException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A WorkflowEventBroadcasterTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventBroadcasterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private WorkflowEventBroadcaster testee;
+
+    private WorkflowEventBroadcaster testee(int bufferSize, int maxSubscribers) {
+        var properties = new PropagationProperties();
+        properties.getStream().setBufferSize(bufferSize);
+        properties.getStream().setMaxSubscribers(maxSubscribers);
+        testee = new WorkflowEventBroadcaster(properties, registry);
+        return testee;
+    }
+
+    private static WorkflowEvent event(String processDefinitionKey, String processInstanceId, String activityId) {
+        var event = new WorkflowEvent(WorkflowEventType.ACTIVITY_STARTED.name(), "EX1", processDefinitionKey + ":1:4711",
+                processInstanceId, processDefinitionKey, null);
+        event.setActivityId(activityId);
+        return event;
+    }
+
+    private double subscribers() {
+        return registry.get("owms.process.execution.events.stream.subscribers").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testee.destroy();
+    }
+
+    @Test
+    void shall_drop_the_oldest_events_of_a_slow_subscriber() {
+        var testee = testee(2, 10);
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var received = new CopyOnWriteArrayList<String>();
+        var done = new CountDownLatch(3);
+        testee.subscribe(null, null, event -> {
+            entered.countDown();
+            await(release);
+            received.add(event.getActivityId());
+            done.countDown();
+        });
+
+        testee.onEvent(event("WF01", "PI1", "task_1"));
+        await(entered);
+        for (var i = 2; i <= 5; i++) {
+            testee.onEvent(event("WF01", "PI1", "task_" + i));
+        }
+        release.countDown();
+
+        await(done);
+        assertThat(received).containsExactly("task_1", "task_4", "task_5");
+        assertThat(registry.get("owms.process.execution.events.stream.dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shall_deliver_matching_events_only() {
+        var testee = testee(10, 10);
+        var received = new CopyOnWriteArrayList<String>();
+        var done = new CountDownLatch(2);
+        testee.subscribe("WF01", null, event -> {
+            received.add(event.getActivityId());
+            done.countDown();
+        });
+        testee.subscribe(null, "PI2", event -> {
+            received.add(event.getActivityId());
+            done.countDown();
+        });
+
+        testee.onEvent(event("WF01", "PI1", "task_1"));
+        testee.onEvent(event("WF02", "PI3", "task_2"));
+        testee.onEvent(event("WF02", "PI2", "task_3"));
+
+        await(done);
+        assertThat(received).containsExactlyInAnyOrder("task_1", "task_3");
+    }
+
+    @Test
+    void shall_limit_the_number_of_subscribers() {
+        var testee = testee(10, 1);
+        var subscription = testee.subscribe(null, null, event -> {});
+        assertThat(subscription).isNotNull();
+        assertThat(testee.subscribe(null, null, event -> {})).isNull();
+
+        subscription.cancel();
+        assertThat(subscribers()).isZero();
+        assertThat(testee.subscribe(null, null, event -> {})).isNotNull();
+    }
+
+    @Test
+    void shall_remove_a_subscriber_that_is_gone() {
+        var testee = testee(10, 10);
+        var failed = new CountDownLatch(1);
+        testee.subscribe(null, null, event -> {
+            failed.countDown();
+            throw new IOException("Broken pipe");
+        });
+        assertThat(subscribers()).isEqualTo(1);
+
+        testee.onEvent(event("WF01", "PI1", "task_1"));
+
+        await(failed);
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (subscribers() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(subscribers()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A WorkflowEventCoalescerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventCoalescerTest {
+
+    private final List<WorkflowEvent> published = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private WorkflowEventCoalescer testee(Duration window) {
+        return testee(window, Duration.ofMinutes(30));
+    }
+
+    private WorkflowEventCoalescer testee(Duration window, Duration maxIdle) {
+        var properties = new PropagationProperties();
+        properties.getCoalescing().setWindow(window);
+        properties.getCoalescing().setMaxIdle(maxIdle);
+        return new WorkflowEventCoalescer(published::add, null, properties, registry);
+    }
+
+    private static WorkflowEvent event(WorkflowEventType type, String activityId, long epochMillis) {
+        var event = new WorkflowEvent(type.name(), "EX1", "WF01:1:4711", "PI1", "WF01", "BK1");
+        event.setActivityId(activityId);
+        event.setOccurredAt(Instant.ofEpochMilli(epochMillis));
+        return event;
+    }
+
+    @Test
+    void shall_send_one_snapshot_before_the_process_ends() {
+        var testee = testee(Duration.ofMinutes(1));
+        testee.accept(event(WorkflowEventType.PROCESS_STARTED, null, 0));
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_1", 1000));
+        testee.accept(event(WorkflowEventType.ACTIVITY_COMPLETED, "task_1", 1500));
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_2", 1500));
+        testee.accept(event(WorkflowEventType.PROCESS_CANCELLED, null, 2000));
+
+        assertThat(published).extracting(WorkflowEvent::getEventType)
+                .containsExactly("PROCESS_STARTED", "PROCESS_SNAPSHOT", "PROCESS_CANCELLED");
+        var snapshot = published.get(1);
+        assertThat(snapshot.getBusinessKey()).isEqualTo("BK1");
+        assertThat(snapshot.getActivities()).hasSize(2);
+        assertThat(snapshot.getActivities().get(0).activityId()).isEqualTo("task_1");
+        assertThat(snapshot.getActivities().get(0).durationMillis()).isEqualTo(500L);
+        assertThat(snapshot.getActivities().get(1).activityId()).isEqualTo("task_2");
+        assertThat(snapshot.getActivities().get(1).durationMillis()).isNull();
+    }
+
+    @Test
+    void shall_send_snapshots_when_the_window_has_elapsed() {
+        var testee = testee(Duration.ZERO);
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_1", 1000));
+        testee.accept(event(WorkflowEventType.ACTIVITY_COMPLETED, "task_1", 1200));
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_2", 1200));
+        assertThat(published).isEmpty();
+
+        testee.flushExpired();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getActivities()).extracting("activityId").containsExactly("task_1");
+
+        testee.accept(event(WorkflowEventType.ACTIVITY_COMPLETED, "task_2", 1700));
+        testee.flushExpired();
+        assertThat(published).hasSize(2);
+        assertThat(published.get(1).getActivities().get(0).durationMillis()).isEqualTo(500L);
+    }
+
+    @Test
+    void shall_evict_instances_whose_end_event_never_arrives() {
+        var testee = testee(Duration.ofMinutes(1), Duration.ZERO);
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_1", 1000));
+        testee.accept(event(WorkflowEventType.ACTIVITY_COMPLETED, "task_1", 1200));
+        testee.accept(event(WorkflowEventType.ACTIVITY_STARTED, "task_2", 1200));
+
+        testee.flushExpired();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getActivities()).extracting("activityId").containsExactly("task_1", "task_2");
+        assertThat(published.get(0).getActivities().get(1).durationMillis()).isNull();
+        assertThat(registry.get("owms.process.execution.events.coalescing.instances").gauge().value()).isZero();
+        assertThat(registry.get("owms.process.execution.events.coalescing.evicted").counter().count()).isEqualTo(1);
+
+        testee.flushExpired();
+        assertThat(published).hasSize(1);
+    }
+}
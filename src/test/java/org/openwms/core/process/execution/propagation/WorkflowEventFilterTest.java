@@ -0,0 +1,72 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A WorkflowEventFilterTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventFilterTest {
+
+    @Test
+    void shall_accept_all_by_default() {
+        var testee = new WorkflowEventFilter(new PropagationProperties());
+        for (var type : WorkflowEventType.values()) {
+            assertThat(testee.accept(type, "WF01:1:4711")).isTrue();
+            assertThat(testee.accept(type, null)).isTrue();
+        }
+    }
+
+    @Test
+    void shall_apply_rules_per_process_definition_key() {
+        var properties = new PropagationProperties();
+        var lifecycleOnly = new PropagationProperties.Rule();
+        lifecycleOnly.setLifecycleOnly(true);
+        var typed = new PropagationProperties.Rule();
+        typed.setEventTypes(Set.of(WorkflowEventType.PROCESS_STARTED, WorkflowEventType.ACTIVITY_COMPLETED));
+        properties.getFilter().getProcesses().put("WF01", lifecycleOnly);
+        properties.getFilter().getProcesses().put("WF02", typed);
+        var testee = new WorkflowEventFilter(properties);
+
+        assertThat(testee.accept(WorkflowEventType.PROCESS_COMPLETED, "WF01:1:4711")).isTrue();
+        assertThat(testee.accept(WorkflowEventType.ACTIVITY_STARTED, "WF01:1:4711")).isFalse();
+        assertThat(testee.accept(WorkflowEventType.PROCESS_STARTED, "WF02:3:4712")).isTrue();
+        assertThat(testee.accept(WorkflowEventType.ACTIVITY_COMPLETED, "WF02:3:4712")).isTrue();
+        assertThat(testee.accept(WorkflowEventType.PROCESS_COMPLETED, "WF02:3:4712")).isFalse();
+        assertThat(testee.accept(WorkflowEventType.ACTIVITY_STARTED, "WF03:1:4713")).isTrue();
+    }
+
+    @Test
+    void shall_sample_activity_events_only() {
+        var properties = new PropagationProperties();
+        properties.getFilter().getDefaults().setSamplingRatio(0.0);
+        var testee = new WorkflowEventFilter(properties);
+
+        assertThat(testee.accept(WorkflowEventType.ACTIVITY_STARTED, "WF01:1:4711")).isFalse();
+        assertThat(testee.accept(WorkflowEventType.PROCESS_STARTED, "WF01:1:4711")).isTrue();
+
+        properties.getFilter().getDefaults().setSamplingRatio(1.0);
+        testee.refresh(properties.getFilter());
+        assertThat(testee.accept(WorkflowEventType.ACTIVITY_STARTED, "WF01:1:4711")).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A WorkflowEventOutboxRepositoryTest.
+ *
+ * @author Heiko Scherrer
+ */
+@SpringBootTest
+@Transactional
+class WorkflowEventOutboxRepositoryTest {
+
+    @Autowired
+    private WorkflowEventOutboxRepository repository;
+
+    @Test
+    void shall_claim_entries_only_once() {
+        repository.save(new WorkflowEventOutboxEntry(new WorkflowEvent("PROCESS_STARTED", "1", "p:1:1", "1")));
+        repository.save(new WorkflowEventOutboxEntry(new WorkflowEvent("PROCESS_COMPLETED", "1", "p:1:1", "1")));
+        repository.flush();
+        var now = Instant.now();
+        var until = now.plus(Duration.ofMinutes(1));
+        var page = PageRequest.of(0, 10);
+
+        var candidates = repository.findClaimable(now, page);
+        assertThat(candidates).hasSize(2);
+
+        assertThat(repository.claim(candidates, "relay-1", until, now)).isEqualTo(2);
+        assertThat(repository.claim(candidates, "relay-2", until, now)).isZero();
+        assertThat(repository.findClaimable(now, page)).isEmpty();
+
+        var claimed = repository.findByClaimedByAndClaimedUntilAfterOrderByPk("relay-1", now, page);
+        assertThat(claimed).extracting(e -> e.toEvent().getEventType()).containsExactly("PROCESS_STARTED", "PROCESS_COMPLETED");
+
+        // The claim of a dead relay times out
+        assertThat(repository.findClaimable(until.plusSeconds(1), page)).hasSize(2);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A WorkflowEventPipelineTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventPipelineTest {
+
+    private final List<WorkflowEvent> published = new ArrayList<>();
+    private final List<WorkflowEvent> observed = new ArrayList<>();
+
+    private WorkflowEventPipeline testee(boolean transactional) {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("observer", (WorkflowEventObserver) observed::add);
+        return new WorkflowEventPipeline(new WorkflowEventPublisher() {
+            @Override
+            public void publish(WorkflowEvent event) {
+                published.add(event);
+            }
+
+            @Override
+            public boolean isTransactional() {
+                return transactional;
+            }
+        }, beanFactory.getBeanProvider(WorkflowEventCoalescer.class), beanFactory.getBeanProvider(WorkflowEventObserver.class));
+    }
+
+    private static WorkflowEvent event() {
+        return new WorkflowEvent(WorkflowEventType.PROCESS_STARTED.name(), "EX1", "WF01:1:4711", "PI1", "WF01", "BK1");
+    }
+
+    private static void complete(boolean committed) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shall_notify_observers_immediately_without_transaction() {
+        var event = event();
+        testee(true).publish(event);
+        assertThat(published).containsExactly(event);
+        assertThat(observed).containsExactly(event);
+    }
+
+    @Test
+    void shall_notify_observers_after_commit() {
+        var testee = testee(true);
+        TransactionSynchronizationManager.initSynchronization();
+        var event = event();
+        testee.publish(event);
+        assertThat(published).containsExactly(event);
+        assertThat(observed).isEmpty();
+
+        complete(true);
+        assertThat(observed).containsExactly(event);
+        assertThat(TransactionSynchronizationManager.hasResource(testee)).isFalse();
+    }
+
+    @Test
+    void shall_not_notify_observers_on_rollback() {
+        var testee = testee(true);
+        TransactionSynchronizationManager.initSynchronization();
+        testee.publish(event());
+
+        complete(false);
+        assertThat(observed).isEmpty();
+        assertThat(TransactionSynchronizationManager.hasResource(testee)).isFalse();
+    }
+
+    @Test
+    void shall_notify_observers_immediately_if_the_publisher_is_not_transactional() {
+        var testee = testee(false);
+        TransactionSynchronizationManager.initSynchronization();
+        var event = event();
+        testee.publish(event);
+        assertThat(observed).containsExactly(event);
+    }
+}
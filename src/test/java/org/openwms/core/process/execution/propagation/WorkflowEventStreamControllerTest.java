@@ -0,0 +1,139 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.propagation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * A WorkflowEventStreamControllerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class WorkflowEventStreamControllerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private WorkflowEventBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new PropagationProperties();
+        properties.getStream().setTimeout(Duration.ofMinutes(1));
+        broadcaster = new WorkflowEventBroadcaster(properties, registry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new WorkflowEventStreamController(broadcaster, properties)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    private MvcResult subscribe(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/workflow-events").param("processDefinitionKey", "WF01").accept(mediaType))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private double subscribers() {
+        return registry.get("owms.process.execution.events.stream.subscribers").gauge().value();
+    }
+
+    private static MockAsyncContext asyncContext(MvcResult result) {
+        return (MockAsyncContext) result.getRequest().getAsyncContext();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        var content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private static WorkflowEvent event(String processDefinitionKey) {
+        return new WorkflowEvent(WorkflowEventType.PROCESS_STARTED.name(), "EX1", processDefinitionKey + ":1:4711", "PI1",
+                processDefinitionKey, "BK1");
+    }
+
+    @Test
+    void shall_stream_matching_events_as_sse() throws Exception {
+        var result = subscribe(MediaType.TEXT_EVENT_STREAM);
+
+        broadcaster.onEvent(event("WF02"));
+        broadcaster.onEvent(event("WF01"));
+
+        var content = awaitContent(result, "event:PROCESS_STARTED");
+        assertThat(content).contains("event:PROCESS_STARTED").contains("\"processDefinitionKey\":\"WF01\"").doesNotContain("WF02");
+    }
+
+    @Test
+    void shall_stream_matching_events_as_ndjson() throws Exception {
+        var result = subscribe(MediaType.APPLICATION_NDJSON);
+
+        broadcaster.onEvent(event("WF01"));
+
+        var content = awaitContent(result, "\n");
+        assertThat(content).startsWith("{").endsWith("}\n").contains("\"processDefinitionKey\":\"WF01\"");
+    }
+
+    @Test
+    void shall_remove_the_subscriber_on_completion() throws Exception {
+        var result = subscribe(MediaType.TEXT_EVENT_STREAM);
+        assertThat(subscribers()).isEqualTo(1);
+
+        asyncContext(result).complete();
+
+        assertThat(subscribers()).isZero();
+    }
+
+    @Test
+    void shall_remove_the_subscriber_on_timeout() throws Exception {
+        var result = subscribe(MediaType.APPLICATION_NDJSON);
+        assertThat(subscribers()).isEqualTo(1);
+
+        var context = asyncContext(result);
+        for (AsyncListener listener : context.getListeners()) {
+            try {
+                listener.onTimeout(new AsyncEvent(context));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        assertThat(subscribers()).isZero();
+    }
+}
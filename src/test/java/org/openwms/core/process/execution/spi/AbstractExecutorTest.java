@@ -0,0 +1,181 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A AbstractExecutorTest.
+ *
+ * @author Heiko Scherrer
+ */
+class AbstractExecutorTest {
+
+    private static final Executor DIRECT = Runnable::run;
+    private final RecordingTransactions transactions = new RecordingTransactions();
+
+    private TestExecutor testee(int chunkSize) {
+        return testee(chunkSize, DIRECT);
+    }
+
+    private TestExecutor testee(int chunkSize, Executor asyncExecutor) {
+        return new TestExecutor(new ProcessDefinitionCache(Duration.ofMinutes(10), new SimpleMeterRegistry()), transactions, chunkSize,
+                asyncExecutor);
+    }
+
+    private static List<ExecutionRequest> requests(String... processNames) {
+        var result = new ArrayList<ExecutionRequest>();
+        for (var i = 0; i < processNames.length; i++) {
+            result.add(new ExecutionRequest(processNames[i], Map.of("no", i)));
+        }
+        return result;
+    }
+
+    @Test
+    void shall_start_each_chunk_in_one_transaction() {
+        var results = testee(2).executeAll(requests("WF01", "WF01", "WF02", "WF01", "WF02"));
+
+        assertThat(results).hasSize(5).allMatch(ExecutionResult::isStarted);
+        assertThat(transactions.committed).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    void shall_fall_back_to_single_starts_when_a_chunk_fails() {
+        var results = testee(3).executeAll(requests("WF01", "FAIL", "WF01", "WF01"));
+
+        assertThat(results).extracting(ExecutionResult::status).containsExactly(ExecutionResult.Status.STARTED,
+                ExecutionResult.Status.FAILED, ExecutionResult.Status.STARTED, ExecutionResult.Status.STARTED);
+        assertThat(results.get(1).error()).isEqualTo("Start of [FAIL] failed");
+        assertThat(transactions.committed).containsExactly(List.of(0), List.of(2), List.of(3));
+    }
+
+    @Test
+    void shall_not_fall_back_to_single_starts_within_the_callers_transaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            var results = testee(3).executeAll(requests("WF01", "FAIL", "WF01"));
+
+            assertThat(results).extracting(ExecutionResult::status).containsOnly(ExecutionResult.Status.FAILED);
+            assertThat(transactions.committed).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void shall_fail_unknown_processes_without_affecting_the_chunk() {
+        var results = testee(3).executeAll(requests("WF01", "UNKNOWN", "WF02"));
+
+        assertThat(results).extracting(ExecutionResult::status).containsExactly(ExecutionResult.Status.STARTED,
+                ExecutionResult.Status.FAILED, ExecutionResult.Status.STARTED);
+        assertThat(results.get(1).error()).contains("UNKNOWN");
+        assertThat(transactions.committed).containsExactly(List.of(0, 2));
+    }
+
+    @Test
+    void shall_report_a_failed_single_start() {
+        var results = testee(5).executeAll(requests("FAIL"));
+
+        assertThat(results).extracting(ExecutionResult::status).containsExactly(ExecutionResult.Status.FAILED);
+        assertThat(transactions.committed).isEmpty();
+    }
+
+    @Test
+    void shall_fail_the_future_when_the_executor_rejects() {
+        var result = testee(1, r -> {
+            throw new RejectedExecutionException("saturated");
+        }).executeAsync("WF01", Map.of());
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static class TestExecutor extends AbstractExecutor<String> {
+
+        private final RecordingTransactions transactions;
+
+        TestExecutor(ProcessDefinitionCache cache, RecordingTransactions transactions, int chunkSize, Executor asyncExecutor) {
+            super(cache, transactions, chunkSize, asyncExecutor);
+            this.transactions = transactions;
+        }
+
+        @Override
+        protected String loadProcessDefinition(String processName) {
+            return "UNKNOWN".equals(processName) ? null : processName;
+        }
+
+        @Override
+        protected boolean isStaleProcessDefinition(RuntimeException e) {
+            return false;
+        }
+
+        @Override
+        protected String getProcessDefinitionId(String processDefinition) {
+            return processDefinition;
+        }
+
+        @Override
+        protected void executeProcessDefinition(String processDefinition, Map<String, Object> runtimeVariables) {
+            if ("FAIL".equals(processDefinition)) {
+                throw new IllegalStateException("Start of [FAIL] failed");
+            }
+            transactions.current.add((Integer) runtimeVariables.get("no"));
+        }
+
+        @Override
+        protected String startProcessInstance(String processDefinition, Map<String, Object> runtimeVariables) {
+            executeProcessDefinition(processDefinition, runtimeVariables);
+            return processDefinition + ":" + runtimeVariables.get("no");
+        }
+    }
+
+    /**
+     * Records the request numbers started per committed transaction and discards them on rollback.
+     */
+    private static class RecordingTransactions implements TransactionOperations {
+
+        private final List<List<Integer>> committed = new ArrayList<>();
+        private List<Integer> current;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+            current = new ArrayList<>();
+            try {
+                var result = action.doInTransaction(new SimpleTransactionStatus());
+                committed.add(current);
+                return result;
+            } finally {
+                current = null;
+            }
+        }
+    }
+}
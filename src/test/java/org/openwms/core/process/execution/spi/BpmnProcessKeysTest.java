@@ -0,0 +1,67 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A BpmnProcessKeysTest.
+ *
+ * @author Heiko Scherrer
+ */
+class BpmnProcessKeysTest {
+
+    private static ByteArrayInputStream of(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shall_read_all_process_keys() {
+        var xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL" xmlns:other="urn:other">
+                  <process id="WF01" isExecutable="true"/>
+                  <other:process id="NOT_BPMN"/>
+                  <process id="WF02" isExecutable="true"><startEvent id="start"/></process>
+                </definitions>
+                """;
+        assertThat(BpmnProcessKeys.read(of(xml))).containsExactly("WF01", "WF02");
+    }
+
+    @Test
+    void shall_not_resolve_external_entities() {
+        var xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE definitions [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <definitions xmlns="http://www.omg.org/spec/BPMN/20100524/MODEL">
+                  <process id="WF01">&xxe;</process>
+                </definitions>
+                """;
+        assertThatThrownBy(() -> BpmnProcessKeys.read(of(xml))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shall_reject_malformed_xml() {
+        assertThatThrownBy(() -> BpmnProcessKeys.read(of("<definitions><process id=\"WF01\">")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.events.WorkflowDefinitionEvent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ProcessDefinitionCacheTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ProcessDefinitionCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(String processKey) {
+        return processKey + ":" + loads.incrementAndGet();
+    }
+
+    private double count(String name, String result) {
+        var search = registry.find(name).tag("cache", "processDefinitions");
+        return (result == null ? search : search.tag("result", result)).counter().count();
+    }
+
+    @Test
+    void shall_load_once_and_hit_afterwards() {
+        var testee = new ProcessDefinitionCache(Duration.ofMinutes(10), registry);
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:1");
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:1");
+        assertThat(loads).hasValue(1);
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void shall_not_cache_unresolved_definitions() {
+        var testee = new ProcessDefinitionCache(Duration.ofMinutes(10), registry);
+        assertThat(testee.<String>get("WF01", k -> null)).isNull();
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:1");
+        assertThat(count("cache.gets", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void shall_reload_after_ttl() {
+        var testee = new ProcessDefinitionCache(Duration.ZERO, registry);
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:1");
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:2");
+        assertThat(count("cache.gets", "hit")).isZero();
+        assertThat(count("cache.evictions", null)).isEqualTo(1);
+    }
+
+    @Test
+    void shall_evict_on_definition_event() {
+        var testee = new ProcessDefinitionCache(Duration.ofMinutes(10), registry);
+        testee.get("WF01", this::load);
+        testee.get("WF02", this::load);
+        testee.onEvent(new WorkflowDefinitionEvent("WF01", WorkflowDefinitionEvent.EventType.SUSPENDED));
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:3");
+        assertThat(testee.<String>get("WF02", this::load)).isEqualTo("WF02:2");
+    }
+
+    @Test
+    void shall_evict_all() {
+        var testee = new ProcessDefinitionCache(Duration.ofMinutes(10), registry);
+        testee.get("WF01", this::load);
+        testee.get("WF02", this::load);
+        testee.evictAll();
+        assertThat(count("cache.evictions", null)).isEqualTo(2);
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:3");
+        assertThat(testee.<String>get("WF02", this::load)).isEqualTo("WF02:4");
+    }
+
+    @Test
+    void shall_not_cache_a_definition_loaded_during_eviction() {
+        var testee = new ProcessDefinitionCache(Duration.ofMinutes(10), registry);
+        testee.get("WF01", key -> {
+            testee.evict(key);
+            return load(key);
+        });
+        assertThat(testee.<String>get("WF01", this::load)).isEqualTo("WF01:2");
+    }
+}
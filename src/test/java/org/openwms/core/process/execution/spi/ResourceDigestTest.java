@@ -0,0 +1,73 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ResourceDigestTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ResourceDigestTest {
+
+    private static final String BPMN = "<definitions>\n  <process id=\"WF01\">\n    <startEvent id=\"start\"/>\n  </process>\n</definitions>";
+
+    private static String normalized(String content) {
+        return ResourceDigest.normalizedSha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shall_ignore_line_endings_trailing_whitespace_and_bom() throws IOException {
+        var expected = normalized(BPMN);
+        assertThat(normalized(BPMN.replace("\n", "\r\n"))).isEqualTo(expected);
+        assertThat(normalized(BPMN.replace("\n", "  \t\n") + "\n\n")).isEqualTo(expected);
+        assertThat(normalized("\uFEFF" + BPMN)).isEqualTo(expected);
+        assertThat(ResourceDigest.normalizedSha256(new ByteArrayInputStream(BPMN.replace("\n", "\r").getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shall_detect_changes() {
+        var expected = normalized(BPMN);
+        assertThat(normalized(BPMN.replace("start", "begin"))).isNotEqualTo(expected);
+        assertThat(normalized(BPMN.replace("  <process", "<process"))).isNotEqualTo(expected);
+        assertThat(normalized(BPMN.replace("\n", "\n\n"))).isNotEqualTo(expected);
+    }
+
+    @Test
+    void shall_ignore_long_runs_of_trailing_whitespace() {
+        var expected = normalized(BPMN);
+        assertThat(normalized(BPMN.replace("\n", " ".repeat(300) + "\n"))).isEqualTo(expected);
+        assertThat(normalized(BPMN.replace("\n", " \t".repeat(200) + "\n"))).isEqualTo(expected);
+        assertThat(normalized(BPMN + "\t".repeat(1000))).isEqualTo(expected);
+    }
+
+    @Test
+    void shall_keep_long_runs_of_inner_whitespace() {
+        var expected = normalized(BPMN.replace("<process", " ".repeat(300) + "\t<process"));
+        assertThat(expected).isNotEqualTo(normalized(BPMN));
+        assertThat(normalized(BPMN.replace("<process", " ".repeat(299) + "\t<process"))).isNotEqualTo(expected);
+        var sha = ResourceDigest.sha256(BPMN.replace("  <process", " ".repeat(300) + "\t<process").getBytes(StandardCharsets.UTF_8));
+        assertThat(normalized(BPMN.replace("  <process", " ".repeat(300) + "\t<process"))).isEqualTo(sha);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.activiti;
+
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.delegate.event.ActivitiEvent;
+import org.activiti.engine.delegate.event.ActivitiEventListener;
+import org.activiti.engine.delegate.event.ActivitiEventType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A ActivitiEventListenerRegistryTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ActivitiEventListenerRegistryTest {
+
+    private final RuntimeService runtimeService = mock(RuntimeService.class);
+
+    private static ActivitiEvent event(String processDefinitionId) {
+        var event = mock(ActivitiEvent.class);
+        when(event.getProcessDefinitionId()).thenReturn(processDefinitionId);
+        return event;
+    }
+
+    @Test
+    void shall_register_untyped_listeners_for_all_events_once() {
+        var listener = mock(ActivitiEventListener.class);
+        var testee = new ActivitiEventListenerRegistry(runtimeService, List.of(listener));
+
+        testee.registerAll();
+        testee.register(listener);
+
+        verify(runtimeService, times(1)).addEventListener(listener);
+    }
+
+    @Test
+    void shall_register_typed_listeners_for_declared_types_only() {
+        var listener = new RecordingListener(Set.of(ActivitiEventType.ENTITY_SUSPENDED), Set.of());
+        new ActivitiEventListenerRegistry(runtimeService, List.of(listener)).registerAll();
+
+        verify(runtimeService).addEventListener(listener, ActivitiEventType.ENTITY_SUSPENDED);
+    }
+
+    @Test
+    void shall_dispatch_events_of_declared_process_definitions_only() {
+        var listener = new RecordingListener(Set.of(ActivitiEventType.PROCESS_COMPLETED), Set.of("WF01"));
+        new ActivitiEventListenerRegistry(runtimeService, List.of(listener)).registerAll();
+        var captor = ArgumentCaptor.forClass(ActivitiEventListener.class);
+        verify(runtimeService).addEventListener(captor.capture(), any(ActivitiEventType.class));
+        var effective = captor.getValue();
+
+        var matching = event("WF01:2:4711");
+        effective.onEvent(matching);
+        effective.onEvent(event("WF011:1:4712"));
+        effective.onEvent(event("WF02:1:4713"));
+        effective.onEvent(event(null));
+
+        assertThat(listener.received).containsExactly(matching);
+        assertThat(effective.isFailOnException()).isFalse();
+    }
+
+    @Test
+    void shall_remove_the_registered_listeners() {
+        var listener = new RecordingListener(Set.of(), Set.of("WF01"));
+        var testee = new ActivitiEventListenerRegistry(runtimeService, null);
+        testee.register(listener);
+        var captor = ArgumentCaptor.forClass(ActivitiEventListener.class);
+        verify(runtimeService).addEventListener(captor.capture());
+
+        testee.unregisterAll();
+
+        verify(runtimeService).removeEventListener(captor.getValue());
+    }
+
+    private static class RecordingListener implements TypedActivitiEventListener {
+
+        private final Set<ActivitiEventType> types;
+        private final Set<String> keys;
+        private final List<ActivitiEvent> received = new ArrayList<>();
+
+        RecordingListener(Set<ActivitiEventType> types, Set<String> keys) {
+            this.types = types;
+            this.keys = keys;
+        }
+
+        @Override
+        public Set<ActivitiEventType> getEventTypes() {
+            return types;
+        }
+
+        @Override
+        public Set<String> getProcessDefinitionKeys() {
+            return keys;
+        }
+
+        @Override
+        public void onEvent(ActivitiEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+    }
+}
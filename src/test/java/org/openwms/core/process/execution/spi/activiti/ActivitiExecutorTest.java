@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.spi.activiti;
+
+import org.activiti.engine.ActivitiObjectNotFoundException;
+import org.activiti.engine.RepositoryService;
+import org.activiti.engine.RuntimeService;
+import org.activiti.engine.repository.ProcessDefinition;
+import org.activiti.engine.repository.ProcessDefinitionQuery;
+import org.activiti.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openwms.core.process.execution.spi.ProcessDefinitionCache;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A ActivitiExecutorTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ActivitiExecutorTest {
+
+    private final RuntimeService runtimeService = mock(RuntimeService.class);
+    private final RepositoryService repositoryService = mock(RepositoryService.class);
+    private final ProcessInstanceExecutor processInstanceExecutor = mock(ProcessInstanceExecutor.class);
+
+    private static ProcessDefinition definition(String id) {
+        var processDefinition = mock(ProcessDefinition.class);
+        when(processDefinition.getId()).thenReturn(id);
+        return processDefinition;
+    }
+
+    @Test
+    void shall_retry_a_stale_definition_on_the_async_thread() {
+        var stale = definition("WF:1:1");
+        var current = definition("WF:2:2");
+        var query = mock(ProcessDefinitionQuery.class, Answers.RETURNS_SELF);
+        when(query.singleResult()).thenReturn(stale, current);
+        when(repositoryService.createProcessDefinitionQuery()).thenReturn(query);
+        when(runtimeService.startProcessInstanceById(eq("WF:1:1"), anyMap()))
+                .thenThrow(new ActivitiObjectNotFoundException("Process definition WF:1:1 not found"));
+        when(runtimeService.startProcessInstanceById(eq("WF:2:2"), anyMap())).thenReturn(mock(ProcessInstance.class));
+        // Like the @Async proxy, the start runs on another thread and its failures never reach the caller
+        doAnswer(i -> CompletableFuture.runAsync(i.getArgument(0)).join()).when(processInstanceExecutor).execute(any());
+        var cache = mock(ProcessDefinitionCache.class);
+        when(cache.get(any(), any())).thenAnswer(i -> i.<Function<String, Object>>getArgument(1).apply(i.getArgument(0)));
+        var testee = new ActivitiExecutor(cache, mock(PlatformTransactionManager.class), 100, Runnable::run, runtimeService,
+                processInstanceExecutor, repositoryService);
+
+        testee.execute("WF", Map.of());
+
+        verify(runtimeService).startProcessInstanceById(eq("WF:1:1"), anyMap());
+        verify(runtimeService).startProcessInstanceById(eq("WF:2:2"), anyMap());
+        verify(cache).evict("WF");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A ConsistentHashRingTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ConsistentHashRingTest {
+
+    private static final List<String> KEYS = IntStream.range(0, 10_000).mapToObj(i -> "TC" + i).toList();
+
+    private static Map<String, String> assign(ConsistentHashRing ring) {
+        var assignment = new HashMap<String, String>();
+        KEYS.forEach(key -> assignment.put(key, ring.ownerOf(key)));
+        return assignment;
+    }
+
+    @Test
+    void shall_spread_keys_evenly() {
+        var testee = new ConsistentHashRing(Set.of("A", "B", "C", "D"), 100);
+        var counts = new HashMap<String, Integer>();
+        assign(testee).values().forEach(owner -> counts.merge(owner, 1, Integer::sum));
+
+        assertThat(counts).containsOnlyKeys("A", "B", "C", "D");
+        counts.values().forEach(count -> assertThat(count).isBetween(1_500, 3_500));
+    }
+
+    @Test
+    void shall_build_the_same_ring_regardless_of_member_order() {
+        assertThat(assign(new ConsistentHashRing(List.of("A", "B", "C"), 50)))
+                .isEqualTo(assign(new ConsistentHashRing(List.of("C", "A", "B"), 50)));
+    }
+
+    @Test
+    void shall_move_only_keys_of_the_joining_member() {
+        var before = assign(new ConsistentHashRing(Set.of("A", "B", "C", "D"), 100));
+        var after = assign(new ConsistentHashRing(Set.of("A", "B", "C", "D", "E"), 100));
+
+        var moved = KEYS.stream().filter(key -> !before.get(key).equals(after.get(key))).toList();
+        assertThat(moved).allMatch(key -> "E".equals(after.get(key)));
+        assertThat(moved.size()).isBetween(1_000, 3_000);
+    }
+
+    @Test
+    void shall_move_only_keys_of_the_leaving_member() {
+        var before = assign(new ConsistentHashRing(Set.of("A", "B", "C"), 100));
+        var after = assign(new ConsistentHashRing(Set.of("A", "C"), 100));
+
+        assertThat(KEYS).allMatch(key -> "B".equals(before.get(key)) || before.get(key).equals(after.get(key)));
+    }
+
+    @Test
+    void shall_have_no_owner_without_members() {
+        assertThat(new ConsistentHashRing(Set.of(), 10).ownerOf("TC1")).isNull();
+        assertThatThrownBy(() -> new ConsistentHashRing(Set.of("A"), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
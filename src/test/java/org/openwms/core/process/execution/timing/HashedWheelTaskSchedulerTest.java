@@ -0,0 +1,175 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A HashedWheelTaskSchedulerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class HashedWheelTaskSchedulerTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTaskSchedulerTest.class);
+    private static final int TIMERS = 5_000;
+    private final HashedWheelTaskScheduler testee = new HashedWheelTaskScheduler(Duration.ofMillis(10), 64,
+            Executors.newFixedThreadPool(4));
+
+    @AfterEach
+    void tearDown() {
+        testee.shutdown();
+    }
+
+    @Test
+    void shall_run_one_shot_tasks_on_time() throws Exception {
+        var start = Instant.now();
+        var future = testee.schedule(() -> { }, start.plusMillis(200));
+
+        future.get(2, TimeUnit.SECONDS);
+
+        assertThat(future.isDone()).isTrue();
+        assertThat(Instant.now()).isAfterOrEqualTo(start.plusMillis(200));
+        assertThat(testee.size()).isZero();
+    }
+
+    @Test
+    void shall_run_tasks_further_than_one_revolution() throws Exception {
+        var latch = new CountDownLatch(1);
+        // One revolution takes 64 x 10ms
+        testee.schedule(latch::countDown, Instant.now().plusMillis(1_000));
+
+        assertThat(latch.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shall_not_run_cancelled_tasks() throws Exception {
+        var runs = new AtomicInteger();
+        var future = testee.schedule(runs::incrementAndGet, Instant.now().plusMillis(100));
+
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.cancel(false)).isFalse();
+        Thread.sleep(300);
+
+        assertThat(runs).hasValue(0);
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(testee.size()).isZero();
+    }
+
+    @Test
+    void shall_reschedule_with_trigger_until_cancelled() throws Exception {
+        var runs = new AtomicInteger();
+        var future = testee.scheduleAtFixedRate(runs::incrementAndGet, Duration.ofMillis(50));
+
+        Thread.sleep(500);
+        future.cancel(false);
+        var afterCancel = runs.get();
+        Thread.sleep(200);
+
+        assertThat(afterCancel).isGreaterThanOrEqualTo(5);
+        assertThat(runs.get()).isLessThanOrEqualTo(afterCancel + 1);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shall_run_cron_triggers_on_the_second() throws Exception {
+        var lateness = new ArrayList<Long>();
+        var future = testee.schedule(() -> {
+            synchronized (lateness) {
+                lateness.add(sinceSecond().toMillis());
+            }
+        }, new CronTrigger("* * * * * *"));
+
+        Thread.sleep(2_500);
+        future.cancel(false);
+
+        assertThat(lateness).hasSizeGreaterThanOrEqualTo(2).allMatch(l -> l >= 0 && l < 500);
+    }
+
+    @Test
+    void benchmark_against_thread_pool_task_scheduler() throws Exception {
+        var threadPool = new ThreadPoolTaskScheduler();
+        threadPool.setPoolSize(5);
+        threadPool.setRemoveOnCancelPolicy(true);
+        threadPool.initialize();
+        try {
+            benchmark("ThreadPoolTaskScheduler", threadPool);
+            benchmark("HashedWheelTaskScheduler", testee);
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+
+    private static void benchmark(String name, TaskScheduler scheduler) throws InterruptedException {
+        var lateness = new AtomicLongArray(TIMERS);
+        var fired = new CountDownLatch(TIMERS);
+        var futures = new ArrayList<ScheduledFuture<?>>(TIMERS);
+
+        var start = System.nanoTime();
+        for (var i = 0; i < TIMERS; i++) {
+            var slot = i;
+            futures.add(scheduler.schedule(() -> {
+                if (lateness.get(slot) == 0) {
+                    lateness.set(slot, Math.max(1, sinceSecond().toNanos()));
+                    fired.countDown();
+                }
+            }, new CronTrigger("* * * * * *")));
+        }
+        var scheduleNanos = System.nanoTime() - start;
+
+        var completed = fired.await(3, TimeUnit.SECONDS);
+        start = System.nanoTime();
+        futures.forEach(f -> f.cancel(false));
+        var cancelNanos = System.nanoTime() - start;
+
+        var sorted = new long[TIMERS];
+        for (var i = 0; i < TIMERS; i++) {
+            sorted[i] = lateness.get(i);
+        }
+        Arrays.sort(sorted);
+        LOGGER.info("{} with [{}] cron timers: schedule [{}] ns/timer, cancel [{}] ns/timer, lateness p50 [{}] ms, p99 [{}] ms, max [{}] ms",
+                name, TIMERS, scheduleNanos / TIMERS, cancelNanos / TIMERS, sorted[TIMERS / 2] / 1_000_000,
+                sorted[TIMERS * 99 / 100] / 1_000_000, sorted[TIMERS - 1] / 1_000_000);
+        assertThat(completed).isTrue();
+    }
+
+    /** The triggers fire every second, so the lateness is the time passed since the full second. */
+    private static Duration sinceSecond() {
+        var now = Instant.now();
+        return Duration.between(now.truncatedTo(ChronoUnit.SECONDS), now);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A OccurrenceTriggerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class OccurrenceTriggerTest {
+
+    @Test
+    void shall_list_missed_occurrences() {
+        var testee = new OccurrenceTrigger("10 * * * * *");
+        var lastFire = testee.nextAfter(Instant.now().truncatedTo(ChronoUnit.HOURS));
+
+        assertThat(testee.occurrencesBetween(lastFire, lastFire.plusSeconds(59), 100)).isEmpty();
+        assertThat(testee.occurrencesBetween(lastFire, lastFire.plusSeconds(60), 100)).containsExactly(lastFire.plusSeconds(60));
+        assertThat(testee.occurrencesBetween(lastFire, lastFire.plusSeconds(300), 100)).hasSize(5)
+                .first().isEqualTo(lastFire.plusSeconds(60));
+    }
+
+    @Test
+    void shall_limit_missed_occurrences() {
+        var testee = new OccurrenceTrigger("* * * * * *");
+        var lastFire = Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(7, ChronoUnit.DAYS);
+
+        assertThat(testee.occurrencesBetween(lastFire, Instant.now(), 100)).hasSize(100)
+                .first().isEqualTo(lastFire.plusSeconds(1));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ProcessInstanceTrackerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ProcessInstanceTrackerTest {
+
+    private final ProcessInstanceTracker testee = new ProcessInstanceTracker();
+
+    @Test
+    void shall_call_back_once_when_the_instance_ends() {
+        var ended = new AtomicInteger();
+        testee.starting();
+        testee.started("PI1", ended::incrementAndGet);
+
+        testee.onEvent(new WorkflowEvent("ACTIVITY_COMPLETED", "E1", "WF:1:1", "PI1"));
+        testee.onEvent(new WorkflowEvent("PROCESS_COMPLETED", "E2", "WF:1:1", "PI2"));
+        assertThat(ended).hasValue(0);
+
+        testee.onEvent(new WorkflowEvent("PROCESS_COMPLETED", "E1", "WF:1:1", "PI1"));
+        testee.onEvent(new WorkflowEvent("PROCESS_COMPLETED", "E1", "WF:1:1", "PI1"));
+        assertThat(ended).hasValue(1);
+    }
+
+    @Test
+    void shall_call_back_when_the_instance_ended_before_its_start_returned() {
+        var ended = new AtomicInteger();
+        testee.starting();
+        testee.onEvent(new WorkflowEvent("PROCESS_COMPLETED_WITH_ERROR_END_EVENT", "E1", "WF:1:1", "PI1"));
+
+        testee.started("PI1", ended::incrementAndGet);
+        assertThat(ended).hasValue(1);
+    }
+
+    @Test
+    void shall_forget_ended_instances_without_pending_starts() {
+        var ended = new AtomicInteger();
+        testee.starting();
+        testee.onEvent(new WorkflowEvent("PROCESS_CANCELLED", "E1", "WF:1:1", "PI1"));
+        testee.started(null, ended::incrementAndGet);
+
+        testee.starting();
+        testee.started("PI1", ended::incrementAndGet);
+        assertThat(ended).hasValue(0);
+    }
+}
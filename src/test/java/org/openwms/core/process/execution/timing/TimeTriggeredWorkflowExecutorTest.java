@@ -0,0 +1,184 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ameba.app.SpringProfiles;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.process.execution.ProgramResult;
+import org.openwms.core.process.execution.RuntimeConfiguration;
+import org.openwms.core.process.execution.api.WorkflowEvent;
+import org.openwms.core.process.execution.spi.ProgramExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A TimeTriggeredWorkflowExecutorTest.
+ *
+ * @author Heiko Scherrer
+ */
+class TimeTriggeredWorkflowExecutorTest {
+
+    private final ProgramExecutor programExecutor = mock(ProgramExecutor.class);
+    private final TimerConfigurationService timerConfigurationService = mock(TimerConfigurationService.class);
+    private final TimerFireLocks fireLocks = mock(TimerFireLocks.class);
+    private final ProcessInstanceTracker instanceTracker = new ProcessInstanceTracker();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private TimeTriggeredWorkflowExecutor testee(TaskScheduler taskScheduler) {
+        return testee(taskScheduler, TimerCoordination.NONE, Duration.ofSeconds(30));
+    }
+
+    private TimeTriggeredWorkflowExecutor testee(TaskScheduler taskScheduler, TimerCoordination coordination, Duration catchUpSpread) {
+        return new TimeTriggeredWorkflowExecutor(programExecutor, taskScheduler, Optional.empty(), timerConfigurationService,
+                fireLocks, coordination, catchUpSpread, Duration.ZERO, 100, instanceTracker,
+                new MockEnvironment().withProperty("spring.profiles.active", SpringProfiles.ASYNCHRONOUS_PROFILE), registry);
+    }
+
+    private static TimerConfiguration timer(String cronExpression, OverlapPolicy overlapPolicy) {
+        var tc = new TimerConfiguration();
+        tc.setPersistentKey("4711");
+        tc.setName("workflow");
+        tc.setCronExpression(cronExpression);
+        tc.setOverlapPolicy(overlapPolicy);
+        return tc;
+    }
+
+    @Test
+    void shall_fire_each_occurrence_on_virtual_threads() throws Exception {
+        var occurrences = new ArrayList<Instant>();
+        doAnswer(i -> {
+            synchronized (occurrences) {
+                occurrences.add(i.getArgument(1));
+            }
+            return null;
+        }).when(fireLocks).record(eq("4711"), any(), any());
+        when(timerConfigurationService.loadConfigurations()).thenReturn(List.of(timer("* * * * * *", OverlapPolicy.ALLOW)));
+        var scheduler = (SimpleAsyncTaskScheduler) new RuntimeConfiguration(true).taskScheduler();
+        try {
+            testee(scheduler).execute();
+            Thread.sleep(3_500);
+        } finally {
+            scheduler.close();
+        }
+
+        synchronized (occurrences) {
+            assertThat(occurrences).hasSizeGreaterThanOrEqualTo(3);
+            for (var i = 1; i < occurrences.size(); i++) {
+                assertThat(occurrences.get(i)).isEqualTo(occurrences.getFirst().plusSeconds(i));
+            }
+        }
+        verify(programExecutor, atLeast(3)).execute(eq("workflow"), any());
+    }
+
+    @Test
+    void shall_skip_occurrences_while_an_instance_is_active() throws Exception {
+        when(timerConfigurationService.loadConfigurations()).thenReturn(List.of(timer("* * * * * *", OverlapPolicy.SKIP_IF_RUNNING)));
+        when(programExecutor.executeAsync(eq("workflow"), any())).thenReturn(CompletableFuture.completedFuture(new ProgramResult("PI1")));
+        var scheduler = (SimpleAsyncTaskScheduler) new RuntimeConfiguration(true).taskScheduler();
+        try {
+            testee(scheduler).execute();
+            Thread.sleep(3_500);
+
+            verify(programExecutor, times(1)).executeAsync(eq("workflow"), any());
+            assertThat(skipped(OverlapPolicy.SKIP_IF_RUNNING)).isGreaterThanOrEqualTo(2);
+
+            // Other instances of the workflow do not block the timer
+            instanceTracker.onEvent(new WorkflowEvent("PROCESS_COMPLETED", "E2", "workflow:1:1", "PI2"));
+            Thread.sleep(100);
+            verify(programExecutor, times(1)).executeAsync(eq("workflow"), any());
+
+            instanceTracker.onEvent(new WorkflowEvent("PROCESS_COMPLETED", "E1", "workflow:1:1", "PI1"));
+            verify(programExecutor, timeout(2_000).atLeast(2)).executeAsync(eq("workflow"), any());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void shall_queue_one_occurrence_while_an_instance_is_active() throws Exception {
+        when(timerConfigurationService.loadConfigurations()).thenReturn(List.of(timer("* * * * * *", OverlapPolicy.QUEUE_ONE)));
+        when(programExecutor.executeAsync(eq("workflow"), any())).thenReturn(
+                CompletableFuture.completedFuture(new ProgramResult("PI1")),
+                CompletableFuture.completedFuture(new ProgramResult("PI2")));
+        var scheduler = (SimpleAsyncTaskScheduler) new RuntimeConfiguration(true).taskScheduler();
+        try {
+            testee(scheduler).execute();
+            Thread.sleep(3_500);
+
+            verify(programExecutor, times(1)).executeAsync(eq("workflow"), any());
+            assertThat(skipped(OverlapPolicy.QUEUE_ONE)).isGreaterThanOrEqualTo(1);
+
+            // The queued occurrence starts as soon as the active instance has ended
+            instanceTracker.onEvent(new WorkflowEvent("PROCESS_CANCELLED", "E1", "workflow:1:1", "PI1"));
+            verify(programExecutor, timeout(500).times(2)).executeAsync(eq("workflow"), any());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void shall_claim_each_missed_occurrence_on_its_own() throws Exception {
+        var tc = timer("0 0 * * * *", OverlapPolicy.ALLOW);
+        tc.setMisfirePolicy(MisfirePolicy.FIRE_ALL);
+        var lastFire = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(3, ChronoUnit.HOURS);
+        var state = mock(TimerFireLock.class);
+        when(state.getFireTime()).thenReturn(lastFire);
+        when(fireLocks.find("4711")).thenReturn(state);
+        when(fireLocks.tryAcquire(eq("4711"), any(), any())).thenReturn(true);
+        // Another node has executed the second missed occurrence in the meantime
+        when(fireLocks.tryAcquire(eq("4711"), eq(lastFire.plus(2, ChronoUnit.HOURS)), any())).thenReturn(false);
+        when(timerConfigurationService.loadConfigurations()).thenReturn(List.of(tc));
+        var scheduler = (SimpleAsyncTaskScheduler) new RuntimeConfiguration(true).taskScheduler();
+        try {
+            testee(scheduler, TimerCoordination.LOCK, Duration.ZERO).execute();
+
+            var claims = inOrder(fireLocks);
+            for (var hours = 1; hours <= 3; hours++) {
+                var occurrence = lastFire.plus(hours, ChronoUnit.HOURS);
+                claims.verify(fireLocks).tryAcquire("4711", occurrence, occurrence.plus(1, ChronoUnit.HOURS));
+            }
+            verify(programExecutor, timeout(1_000).times(2)).execute(eq("workflow"), any());
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    private double skipped(OverlapPolicy policy) {
+        return registry.get("owms.process.execution.timers.skipped").tag("policy", policy.name()).counter().count();
+    }
+}
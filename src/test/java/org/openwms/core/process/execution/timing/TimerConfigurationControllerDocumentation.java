@@ -85,7 +85,7 @@ class TimerConfigurationControllerDocumentation {
 
     @Test
     void shall_create_TimerConfiguration() throws Exception {
-        var tc1 = new TimerConfigurationVO("tc1", "tc1desc", "10 * * * * *", Map.of("in1", "val1"));
+        var tc1 = new TimerConfigurationVO("", "tc1", "tc1desc", "10 * * * * *", Map.of("in1", "val1"), "FIRE_ONCE", "SKIP_IF_RUNNING");
         mockMvc.perform(
                         post("/timers")
                                 .content(mapper.writeValueAsString(tc1))
@@ -101,7 +101,9 @@ class TimerConfigurationControllerDocumentation {
                                 fieldWithPath("description").description("A descriptive text for the configuration"),
                                 fieldWithPath("cronExpression").description("A 6-digit Spring Cron expression, like {@literal 10 * * * * ?}"),
                                 fieldWithPath("runtimeVariables").description("An arbitrary map of runtime variables that are passed to the process execution"),
-                                fieldWithPath("runtimeVariables.*").ignored()
+                                fieldWithPath("runtimeVariables.*").ignored(),
+                                fieldWithPath("misfirePolicy").description("What happens with occurrences missed while no instance was running: SKIP (default), FIRE_ONCE or FIRE_ALL").optional(),
+                                fieldWithPath("overlapPolicy").description("What happens if the timer fires while its previous execution is in flight: ALLOW (default), SKIP_IF_RUNNING or QUEUE_ONE").optional()
                         )
                 ));
     }
@@ -114,6 +116,8 @@ class TimerConfigurationControllerDocumentation {
                 .andExpect(jsonPath("name", is("WF01")))
                 .andExpect(jsonPath("description", is("Test workflow")))
                 .andExpect(jsonPath("cronExpression", is("10 * * * * *")))
+                .andExpect(jsonPath("misfirePolicy", is("SKIP")))
+                .andExpect(jsonPath("overlapPolicy", is("ALLOW")))
         ;
     }
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2005-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.process.execution.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A TimerFireLocksTest.
+ *
+ * @author Heiko Scherrer
+ */
+@SpringBootTest
+class TimerFireLocksTest {
+
+    @Autowired
+    private TimerFireLocks testee;
+
+    @Test
+    void shall_claim_each_occurrence_once() {
+        var occurrence = Instant.parse("2026-01-01T10:00:10Z");
+        testee.register("4711");
+        testee.register("4711");
+
+        assertThat(testee.find("4711").getFireTime()).isEqualTo(Instant.EPOCH);
+
+        assertThat(testee.tryAcquire("4711", occurrence, occurrence.plusSeconds(60))).isTrue();
+        assertThat(testee.tryAcquire("4711", occurrence, occurrence.plusSeconds(60))).isFalse();
+        assertThat(testee.tryAcquire("4711", occurrence.minusSeconds(60), occurrence)).isFalse();
+        assertThat(testee.tryAcquire("4711", occurrence.plusSeconds(60), occurrence.plusSeconds(120))).isTrue();
+        assertThat(testee.find("4711").getFireTime()).isEqualTo(occurrence.plusSeconds(60));
+        assertThat(testee.find("4711").getNextFireTime()).isEqualTo(occurrence.plusSeconds(120));
+
+        testee.remove("4711");
+        assertThat(testee.find("4711")).isNull();
+        assertThat(testee.tryAcquire("4711", occurrence.plusSeconds(120), occurrence.plusSeconds(180))).isFalse();
+    }
+}
@@ -1,2 +1,3 @@
+delete from tms_rsrv_timer_fire_lock;
 delete from tms_rsrv_timer_config_vars;
 delete from tms_rsrv_timer_config;
\ No newline at end of file